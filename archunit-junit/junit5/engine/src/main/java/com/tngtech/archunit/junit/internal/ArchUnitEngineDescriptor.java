@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.junit.internal;
 
+import com.tngtech.archunit.lang.extension.ArchUnitExtensions;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.engine.support.hierarchical.Node;
@@ -23,4 +24,9 @@ class ArchUnitEngineDescriptor extends EngineDescriptor implements Node<ArchUnit
     ArchUnitEngineDescriptor(UniqueId uniqueId) {
         super(uniqueId, "ArchUnit JUnit 5");
     }
+
+    @Override
+    public void after(ArchUnitEngineExecutionContext context) {
+        ArchUnitExtensions.flushAll();
+    }
 }
@@ -15,23 +15,28 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReader;
 import java.lang.module.ModuleReference;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
+import com.google.common.io.ByteStreams;
+
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
 class ModuleLocationFactory implements Location.Factory {
     @Override
@@ -102,10 +107,9 @@ class ModuleLocationFactory implements Location.Factory {
 
         @Override
         Collection<NormalizedResourceName> readResourceEntries() {
-            return doWithModuleReader(moduleReference, moduleReader -> moduleReader.list()
-                    .filter(resourceName::isStartOf)
+            return ModuleEntryIndex.of(moduleReference).entriesStartingWith(resourceName)
                     .map(NormalizedResourceName::from)
-                    .collect(toList()));
+                    .collect(toList());
         }
 
         @Override
@@ -117,32 +121,105 @@ class ModuleLocationFactory implements Location.Factory {
         }
     }
 
+    /**
+     * Listing a module is expensive (e.g. {@code java.base} consists of several thousand entries), but the contents
+     * of a system module never change during the lifetime of the JVM. Thus, we list each module only once and keep
+     * its entries sorted, so all entries starting with a certain resource name form a contiguous range we can
+     * find by binary search.
+     */
+    private static class ModuleEntryIndex {
+        private static final ConcurrentMap<URI, ModuleEntryIndex> indexByModuleLocation = new ConcurrentHashMap<>();
+
+        private final String[] sortedEntries;
+
+        private ModuleEntryIndex(String[] sortedEntries) {
+            this.sortedEntries = sortedEntries;
+        }
+
+        Stream<String> entriesStartingWith(NormalizedResourceName resourceName) {
+            int insertionPoint = Arrays.binarySearch(sortedEntries, resourceName.toString());
+            int from = insertionPoint >= 0 ? insertionPoint : -(insertionPoint + 1);
+            int to = from;
+            while (to < sortedEntries.length && resourceName.isStartOf(sortedEntries[to])) {
+                to++;
+            }
+            return Arrays.stream(sortedEntries, from, to);
+        }
+
+        static ModuleEntryIndex of(ModuleReference moduleReference) {
+            return indexByModuleLocation.computeIfAbsent(moduleReference.location().get(), __ -> create(moduleReference));
+        }
+
+        private static ModuleEntryIndex create(ModuleReference moduleReference) {
+            return doWithModuleReader(moduleReference, moduleReader -> {
+                String[] entries = moduleReader.list().toArray(String[]::new);
+                Arrays.sort(entries);
+                return new ModuleEntryIndex(entries);
+            });
+        }
+    }
+
     private static class ModuleClassFileSource implements ClassFileSource {
-        private final Stream<ClassFileLocation> locations;
+        private final List<ModuleClassFileLocation> locations;
 
         ModuleClassFileSource(
                 ModuleReference moduleReference,
                 NormalizedResourceName resourceName,
                 ImportOptions importOptions) {
 
-            Set<String> entries = loadEntries(moduleReference, resourceName);
-            locations = entries.stream()
+            locations = ModuleEntryIndex.of(moduleReference).entriesStartingWith(resourceName)
+                    .filter(FileToImport::isRelevant)
                     .map(entry -> new ModuleClassFileLocation(moduleReference, entry))
                     .filter(classFileLocation -> classFileLocation.isIncludedBy(importOptions))
-                    .map(Function.identity()); // thanks Java type system :-(
+                    .collect(toList());
         }
 
-        private Set<String> loadEntries(ModuleReference moduleReference, NormalizedResourceName resourceName) {
-            return doWithModuleReader(moduleReference, moduleReader -> moduleReader.list()
-                    .filter(resourceName::isStartOf)
-                    .filter(FileToImport::isRelevant)
-                    .map(entry -> "/" + entry)
-                    .collect(toSet()));
+        @Override
+        public Iterator<ClassFileLocation> iterator() {
+            return new PreloadingIterator(locations);
+        }
+    }
+
+    /**
+     * Reading the bytes of one module entry is independent of all other entries, so we read the class files
+     * in parallel batches before handing them to the (sequential) caller. The batch size bounds the number
+     * of class files held in memory at the same time.
+     */
+    private static class PreloadingIterator implements Iterator<ClassFileLocation> {
+        private static final int BATCH_SIZE = 256;
+
+        private final List<ModuleClassFileLocation> locations;
+        private int nextBatchStart = 0;
+        private Iterator<ClassFileLocation> currentBatch = Collections.emptyIterator();
+
+        PreloadingIterator(List<ModuleClassFileLocation> locations) {
+            this.locations = locations;
         }
 
         @Override
-        public Iterator<ClassFileLocation> iterator() {
-            return locations.iterator();
+        public boolean hasNext() {
+            return currentBatch.hasNext() || nextBatchStart < locations.size();
+        }
+
+        @Override
+        public ClassFileLocation next() {
+            if (!currentBatch.hasNext()) {
+                currentBatch = loadNextBatch();
+            }
+            return currentBatch.next();
+        }
+
+        private Iterator<ClassFileLocation> loadNextBatch() {
+            if (nextBatchStart >= locations.size()) {
+                throw new NoSuchElementException();
+            }
+            int batchEnd = Math.min(nextBatchStart + BATCH_SIZE, locations.size());
+            List<ModuleClassFileLocation> batch = locations.subList(nextBatchStart, batchEnd);
+            nextBatchStart = batchEnd;
+            return batch.parallelStream()
+                    .<ClassFileLocation>map(ModuleClassFileLocation::preload)
+                    .collect(toList())
+                    .iterator();
         }
     }
 
@@ -168,6 +245,18 @@ class ModuleLocationFactory implements Location.Factory {
                             String.format("Entry %s parsed from JRT location %s could not be opened. This is most likely a bug.", entry, location))));
         }
 
+        /**
+         * @return a location serving the bytes of this entry from memory, or this location itself if the entry
+         *         could not be read (then the error will be reported when the importer opens the stream)
+         */
+        ClassFileLocation preload() {
+            try (InputStream inputStream = openStream()) {
+                return new PreloadedClassFileLocation(getUri(), ByteStreams.toByteArray(inputStream));
+            } catch (IOException | RuntimeException e) {
+                return this;
+            }
+        }
+
         @Override
         public URI getUri() {
             return location.asURI();
@@ -183,6 +272,31 @@ class ModuleLocationFactory implements Location.Factory {
         }
     }
 
+    private static class PreloadedClassFileLocation implements ClassFileLocation {
+        private final URI uri;
+        private final byte[] bytes;
+
+        PreloadedClassFileLocation(URI uri, byte[] bytes) {
+            this.uri = uri;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{uri=" + uri + '}';
+        }
+    }
+
     @FunctionalInterface
     private interface ModuleReaderProcessor<T> {
         T process(ModuleReader reader) throws IOException;
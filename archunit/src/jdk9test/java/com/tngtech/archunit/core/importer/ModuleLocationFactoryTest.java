@@ -2,18 +2,24 @@ package com.tngtech.archunit.core.importer;
 
 import java.io.File;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReference;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.google.common.io.ByteStreams;
 import org.junit.Test;
 
 import static com.tngtech.archunit.core.importer.ClassFileSourceTest.MODULE_INFO_FILE_NAME;
 import static com.tngtech.archunit.testutil.TestUtils.uriOf;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ModuleLocationFactoryTest {
@@ -60,6 +66,33 @@ public class ModuleLocationFactoryTest {
                 .doesNotContain(uriOf(File.class));
     }
 
+    @Test
+    public void reads_class_files_of_jrt() throws IOException {
+        Location jrtContainingFile = locationFactory.create(createModuleUriContaining(File.class));
+
+        Map<URI, byte[]> bytesByUri = new HashMap<>();
+        for (ClassFileLocation classFileLocation : jrtContainingFile.asClassFileSource(new ImportOptions())) {
+            try (InputStream inputStream = classFileLocation.openStream()) {
+                bytesByUri.put(classFileLocation.getUri(), ByteStreams.toByteArray(inputStream));
+            }
+        }
+
+        assertThat(bytesByUri).containsKeys(uriOf(File.class), uriOf(FileReader.class), uriOf(String.class));
+        for (Class<?> clazz : new Class<?>[]{File.class, FileReader.class, String.class}) {
+            try (InputStream expected = uriOf(clazz).toURL().openStream()) {
+                assertThat(bytesByUri.get(uriOf(clazz))).as("bytes of " + clazz.getName()).isEqualTo(ByteStreams.toByteArray(expected));
+            }
+        }
+    }
+
+    @Test
+    public void reads_same_entries_of_jrt_repeatedly() {
+        URI jrtJavaIo = parentOf(uriOf(File.class));
+
+        assertThat(locationFactory.create(jrtJavaIo).streamEntries())
+                .containsExactlyInAnyOrderElementsOf(locationFactory.create(jrtJavaIo).streamEntries().collect(toList()));
+    }
+
     @Test
     public void filters_out_module_infos() {
         URI jrtUri = ModuleFinder.ofSystem().find("java.base").flatMap(ModuleReference::location).get();
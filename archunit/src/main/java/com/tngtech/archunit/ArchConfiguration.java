@@ -52,6 +52,10 @@ public final class ArchConfiguration {
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    @Internal
+    public static final String CLASS_SOURCE_CHECKSUM_ALGORITHM = "classSourceChecksumAlgorithm";
+    @Internal
+    public static final String MEMOIZE_PREDICATE_RESULTS = "memoizePredicateResults";
     private static final String EXTENSION_PREFIX = "extension";
 
     private static final Logger LOG = LoggerFactory.getLogger(ArchConfiguration.class);
@@ -123,6 +127,34 @@ public final class ArchConfiguration {
         properties.setProperty(ENABLE_MD5_IN_CLASS_SOURCES, String.valueOf(enabled));
     }
 
+    /**
+     * @return the algorithm used to compute the checksums of class files if {@link #md5InClassSourcesEnabled()},
+     *         i.e. one of {@code MD5} (the default), {@code CRC32C} or {@code MURMUR3_128}
+     */
+    @PublicAPI(usage = ACCESS)
+    public String getClassSourceChecksumAlgorithm() {
+        return properties.getProperty(CLASS_SOURCE_CHECKSUM_ALGORITHM);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setClassSourceChecksumAlgorithm(String algorithm) {
+        properties.setProperty(CLASS_SOURCE_CHECKSUM_ALGORITHM, algorithm);
+    }
+
+    /**
+     * @return {@code true}, if the results of deterministic built-in predicates (e.g. {@code resideInAPackage(..)})
+     *         should be memoized per imported class, so rules evaluated against the same import share them
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean memoizePredicateResultsEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(MEMOIZE_PREDICATE_RESULTS));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMemoizePredicateResultsEnabled(boolean enabled) {
+        properties.setProperty(MEMOIZE_PREDICATE_RESULTS, String.valueOf(enabled));
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return Optional.ofNullable(properties.getProperty(CLASS_RESOLVER));
@@ -327,7 +359,8 @@ public final class ArchConfiguration {
     private static class PropertiesOverwritableBySystemProperties {
         private static final Properties PROPERTY_DEFAULTS = createProperties(ImmutableMap.of(
                 RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, Boolean.TRUE.toString(),
-                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString()
+                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString(),
+                CLASS_SOURCE_CHECKSUM_ALGORITHM, "MD5"
         ));
 
         private final Properties baseProperties;
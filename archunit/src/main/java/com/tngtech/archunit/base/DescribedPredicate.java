@@ -55,6 +55,26 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return new AsPredicate<>(this, description, params);
     }
 
+    /**
+     * @return An estimate how expensive it is to {@link #test(Object) test} an object against this predicate.
+     *         Predicates joined via {@link #and(DescribedPredicate)} or {@link #or(DescribedPredicate)} evaluate
+     *         a {@link EvaluationCost#CHEAP CHEAP} predicate first, no matter in which order the predicates were declared.
+     * @see #withEvaluationCost(EvaluationCost)
+     */
+    public EvaluationCost getEvaluationCost() {
+        return EvaluationCost.DEFAULT;
+    }
+
+    /**
+     * @param evaluationCost An estimate how expensive it is to {@link #test(Object) test} an object against this predicate
+     * @return A predicate with the same description and behavior, but the given {@link EvaluationCost}.
+     *         Note that a {@link EvaluationCost#CHEAP CHEAP} predicate might be evaluated before predicates declared earlier,
+     *         so it must not rely on any of those as a guard.
+     */
+    public DescribedPredicate<T> withEvaluationCost(EvaluationCost evaluationCost) {
+        return new EvaluationCostPredicate<>(this, evaluationCost);
+    }
+
     public DescribedPredicate<T> and(final DescribedPredicate<? super T> other) {
         return new AndPredicate<>(this, other);
     }
@@ -277,6 +297,26 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         }
     };
 
+    /**
+     * A rough estimate how expensive it is to evaluate a {@link DescribedPredicate}. Built-in predicates that only
+     * check names, packages or modifiers are {@link #CHEAP}, predicates that need to inspect annotations or
+     * the type hierarchy are {@link #EXPENSIVE}. All other predicates have the {@link #DEFAULT} cost,
+     * i.e. nothing is known about them, which in particular means that they are never reordered.
+     */
+    @PublicAPI(usage = ACCESS)
+    public enum EvaluationCost {
+        @PublicAPI(usage = ACCESS)
+        CHEAP,
+        @PublicAPI(usage = ACCESS)
+        DEFAULT,
+        @PublicAPI(usage = ACCESS)
+        EXPENSIVE;
+
+        static EvaluationCost max(EvaluationCost first, EvaluationCost second) {
+            return first.compareTo(second) >= 0 ? first : second;
+        }
+    }
+
     private static class AsPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> current;
 
@@ -289,37 +329,79 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return current.test(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return current.getEvaluationCost();
+        }
     }
 
-    private static class AndPredicate<T> extends DescribedPredicate<T> {
+    private static class EvaluationCostPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> current;
-        private final DescribedPredicate<? super T> other;
+        private final EvaluationCost evaluationCost;
 
-        AndPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
-            super(current.getDescription() + " and " + other.getDescription());
-            this.current = checkNotNull(current);
-            this.other = checkNotNull(other);
+        EvaluationCostPredicate(DescribedPredicate<T> current, EvaluationCost evaluationCost) {
+            super(current.getDescription());
+            this.current = current;
+            this.evaluationCost = checkNotNull(evaluationCost);
         }
 
         @Override
         public boolean test(T input) {
-            return current.test(input) && other.test(input);
+            return current.test(input);
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return evaluationCost;
         }
     }
 
-    private static class OrPredicate<T> extends DescribedPredicate<T> {
-        private final DescribedPredicate<T> current;
-        private final DescribedPredicate<? super T> other;
+    /**
+     * Joins two predicates, where the {@link EvaluationCost#CHEAP CHEAP} one is evaluated first. Predicates with
+     * {@link EvaluationCost#DEFAULT DEFAULT} cost are never moved in front of another predicate, since they might rely on it as a guard
+     * (e.g. {@code isArray().and(componentTypeMatches())}). The description always keeps the declared order.
+     */
+    private abstract static class JoinedPredicate<T> extends DescribedPredicate<T> {
+        final DescribedPredicate<T> first;
+        final DescribedPredicate<T> second;
+        private final EvaluationCost evaluationCost;
+
+        JoinedPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other, String operator) {
+            super(current.getDescription() + " " + operator + " " + other.getDescription());
+            checkNotNull(current);
+            checkNotNull(other);
+            boolean otherIsCheaper = other.getEvaluationCost() == EvaluationCost.CHEAP && current.getEvaluationCost() != EvaluationCost.CHEAP;
+            this.first = otherIsCheaper ? other.forSubtype() : current;
+            this.second = otherIsCheaper ? current : other.forSubtype();
+            this.evaluationCost = EvaluationCost.max(current.getEvaluationCost(), other.getEvaluationCost());
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return evaluationCost;
+        }
+    }
 
+    private static class AndPredicate<T> extends JoinedPredicate<T> {
+        AndPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
+            super(current, other, "and");
+        }
+
+        @Override
+        public boolean test(T input) {
+            return first.test(input) && second.test(input);
+        }
+    }
+
+    private static class OrPredicate<T> extends JoinedPredicate<T> {
         OrPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
-            super(current.getDescription() + " or " + other.getDescription());
-            this.current = checkNotNull(current);
-            this.other = checkNotNull(other);
+            super(current, other, "or");
         }
 
         @Override
         public boolean test(T input) {
-            return current.test(input) || other.test(input);
+            return first.test(input) || second.test(input);
         }
     }
 
@@ -351,6 +433,11 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return !predicate.test(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return predicate.getEvaluationCost();
+        }
     }
 
     private static class EqualToPredicate<T> extends DescribedPredicate<T> {
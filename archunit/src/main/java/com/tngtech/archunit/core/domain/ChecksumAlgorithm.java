@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Optional;
+
+import com.google.common.hash.Hashing;
+import com.tngtech.archunit.Internal;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Stream.of;
+
+/**
+ * The algorithms available to compute the checksums of imported class files
+ * (compare {@value com.tngtech.archunit.ArchConfiguration#CLASS_SOURCE_CHECKSUM_ALGORITHM}).
+ * The checksums are exposed as {@link Source#getChecksum()}.
+ */
+@Internal
+public enum ChecksumAlgorithm {
+    MD5 {
+        @Override
+        Optional<byte[]> checksumOf(byte[] input) {
+            // MessageDigest is not thread safe and classes might be imported concurrently, so we need a new instance each time
+            try {
+                return Optional.of(MessageDigest.getInstance("MD5").digest(input));
+            } catch (NoSuchAlgorithmException e) {
+                return Optional.empty();
+            }
+        }
+    },
+    CRC32C {
+        @Override
+        Optional<byte[]> checksumOf(byte[] input) {
+            return Optional.of(Hashing.crc32c().hashBytes(input).asBytes());
+        }
+    },
+    MURMUR3_128 {
+        @Override
+        Optional<byte[]> checksumOf(byte[] input) {
+            return Optional.of(Hashing.murmur3_128().hashBytes(input).asBytes());
+        }
+    };
+
+    /**
+     * @return the checksum of {@code input} or {@link Optional#empty()}, if the algorithm is not supported by the platform
+     */
+    abstract Optional<byte[]> checksumOf(byte[] input);
+
+    public static ChecksumAlgorithm fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Checksum algorithm '%s' is not supported, supported algorithms are [%s]",
+                    name, of(values()).map(Enum::name).collect(joining(", "))), e);
+        }
+    }
+}
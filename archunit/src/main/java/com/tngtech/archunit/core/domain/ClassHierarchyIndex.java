@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns dense ids to all classes of one import and stores for each class the ids of all types
+ * it is assignable to (i.e. itself, all superclasses and all interfaces) as a sorted {@code int[]}.
+ * Ids are assigned supertypes first, so the closure of each class can be built by merging the
+ * already computed closures of its direct supertypes.<br>
+ * We deliberately do not use one {@link java.util.BitSet} per class, since the memory consumption
+ * would grow quadratically with the number of classes, while the number of supertypes of a class
+ * is usually very small, i.e. a binary search over the closure is effectively constant time.
+ */
+final class ClassHierarchyIndex {
+    static final ClassHierarchyIndex EMPTY = new ClassHierarchyIndex(new JavaClass[0], new HashMap<>(), new int[0][]);
+
+    private final JavaClass[] classesById;
+    private final Map<String, Integer> idsByName;
+    private final int[][] assignableToIdsById;
+
+    private ClassHierarchyIndex(JavaClass[] classesById, Map<String, Integer> idsByName, int[][] assignableToIdsById) {
+        this.classesById = classesById;
+        this.idsByName = idsByName;
+        this.assignableToIdsById = assignableToIdsById;
+    }
+
+    boolean contains(int id) {
+        return id >= 0 && id < classesById.length;
+    }
+
+    boolean contains(JavaClass javaClass) {
+        return contains(javaClass.getClassId()) && classesById[javaClass.getClassId()] == javaClass;
+    }
+
+    int size() {
+        return classesById.length;
+    }
+
+    JavaClass getClassById(int id) {
+        return classesById[id];
+    }
+
+    boolean isAssignableTo(int id, String typeName) {
+        Integer targetId = idsByName.get(typeName);
+        return targetId != null && isAssignable(id, targetId);
+    }
+
+    boolean isAssignableFrom(int id, String typeName) {
+        Integer sourceId = idsByName.get(typeName);
+        return sourceId != null && isAssignable(sourceId, id);
+    }
+
+    private boolean isAssignable(int fromId, int toId) {
+        return fromId == toId || Arrays.binarySearch(assignableToIdsById[fromId], toId) >= 0;
+    }
+
+    static ClassHierarchyIndex index(Iterable<JavaClass> classes) {
+        return new Creation().index(classes);
+    }
+
+    private static class Creation {
+        private final Map<JavaClass, Integer> ids = new IdentityHashMap<>();
+        private final List<JavaClass> classesById = new ArrayList<>();
+        private final List<int[]> closuresById = new ArrayList<>();
+
+        ClassHierarchyIndex index(Iterable<JavaClass> classes) {
+            for (JavaClass javaClass : classes) {
+                idOf(javaClass);
+            }
+
+            Map<String, Integer> idsByName = new HashMap<>();
+            for (int id = 0; id < classesById.size(); id++) {
+                idsByName.put(classesById.get(id).getName(), id);
+            }
+            ClassHierarchyIndex index = new ClassHierarchyIndex(classesById.toArray(new JavaClass[0]), idsByName, closuresById.toArray(new int[0][]));
+            for (int id = 0; id < classesById.size(); id++) {
+                classesById.get(id).setClassHierarchyIndex(index, id);
+            }
+            return index;
+        }
+
+        private int idOf(JavaClass javaClass) {
+            Integer id = ids.get(javaClass);
+            if (id != null) {
+                return id;
+            }
+
+            // supertypes must always be indexed first, so we can merge their already completed closures
+            List<int[]> supertypeClosures = new ArrayList<>();
+            if (javaClass.getRawSuperclass().isPresent()) {
+                supertypeClosures.add(closureOf(idOf(javaClass.getRawSuperclass().get())));
+            }
+            for (JavaClass rawInterface : javaClass.getRawInterfaces()) {
+                supertypeClosures.add(closureOf(idOf(rawInterface)));
+            }
+
+            int newId = classesById.size();
+            ids.put(javaClass, newId);
+            classesById.add(javaClass);
+            closuresById.add(mergeSorted(newId, supertypeClosures));
+            return newId;
+        }
+
+        private int[] closureOf(int id) {
+            return closuresById.get(id);
+        }
+
+        private static int[] mergeSorted(int ownId, List<int[]> closures) {
+            int size = 1;
+            for (int[] closure : closures) {
+                size += closure.length;
+            }
+            int[] all = new int[size];
+            all[0] = ownId;
+            int next = 1;
+            for (int[] closure : closures) {
+                System.arraycopy(closure, 0, all, next, closure.length);
+                next += closure.length;
+            }
+            Arrays.sort(all);
+
+            int distinct = 0;
+            for (int i = 0; i < all.length; i++) {
+                if (i == 0 || all[i] != all[i - 1]) {
+                    all[distinct++] = all[i];
+                }
+            }
+            return Arrays.copyOf(all, distinct);
+        }
+    }
+}
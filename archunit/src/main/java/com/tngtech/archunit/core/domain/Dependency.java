@@ -58,29 +58,35 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     private final JavaClass originClass;
     private final JavaClass targetClass;
     private final int lineNumber;
-    private final String description;
-    private final SourceCodeLocation sourceCodeLocation;
+    private final String originDescription;
+    private final String dependencyType;
+    private final String targetDescription;
     private final int hashCode;
+    private String description;  // rendered lazily, since Dependencies are usually only looked at in case of a violation
+    private SourceCodeLocation sourceCodeLocation;
 
-    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String description) {
+    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String originDescription, String dependencyType, String targetDescription) {
         checkArgument(!originClass.equals(targetClass) || targetClass.isPrimitive(),
-                "Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
-                description, originClass.getSimpleName(), targetClass.getSimpleName());
+                "Tried to create illegal dependency '%s %s %s' (%s -> %s), this is likely a bug!",
+                originDescription, dependencyType, targetDescription, originClass.getSimpleName(), targetClass.getSimpleName());
 
         this.originClass = originClass;
         this.targetClass = targetClass;
         this.lineNumber = lineNumber;
-        this.description = description;
-        this.sourceCodeLocation = SourceCodeLocation.of(originClass, lineNumber);
-        hashCode = Objects.hash(originClass, targetClass, lineNumber, description);
+        this.originDescription = originDescription;
+        this.dependencyType = dependencyType;
+        this.targetDescription = targetDescription;
+        hashCode = Objects.hash(originClass, targetClass, lineNumber, originDescription, dependencyType, targetDescription);
     }
 
     static Set<Dependency> tryCreateFromAccess(JavaAccess<?> access) {
         JavaClass originOwner = access.getOriginOwner();
         JavaClass targetOwner = access.getTargetOwner();
+        String originDescription = access.getOrigin().getDescription();
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation()));
-        dependencies.addAll(asSet(tryCreateDependency(originOwner, targetOwner, access.getDescription(), access.getLineNumber())));
+                .addAll(createComponentTypeDependencies(originOwner, originDescription, targetOwner, access.getSourceCodeLocation()));
+        dependencies.addAll(asSet(tryCreateDependency(
+                originOwner, targetOwner, access.getLineNumber(), originDescription, access.descriptionVerb(), access.getTarget().getDescription())));
         return dependencies.build();
     }
 
@@ -93,14 +99,11 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         String targetType = targetSupertype.isInterface() ? "interface" : "class";
         String targetDescription = bracketFormat(targetSupertype.getName());
 
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
-
-        String description = dependencyDescription + " in " + origin.getSourceCodeLocation();
-        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, description, 0);
+        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, 0, originDescription, dependencyType + " " + targetType, targetDescription);
 
         if (!result.isPresent()) {
-            throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
-                    description, origin.getSimpleName(), targetSupertype.getSimpleName()));
+            throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s %s %s %s' (%s -> %s), this is likely a bug!",
+                    originDescription, dependencyType, targetType, targetDescription, origin.getSimpleName(), targetSupertype.getSimpleName()));
         }
         return result.get();
     }
@@ -211,9 +214,8 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
                 .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation));
         String targetDescription = bracketFormat(targetClass.getName());
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
-        String description = dependencyDescription + " in " + sourceCodeLocation;
-        dependencies.addAll(asSet(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation.getLineNumber())));
+        dependencies.addAll(asSet(tryCreateDependency(
+                originClass, targetClass, sourceCodeLocation.getLineNumber(), originDescription, dependencyType, targetDescription)));
         return dependencies.build();
     }
 
@@ -224,19 +226,25 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         Optional<JavaClass> componentType = targetClass.tryGetComponentType();
         while (componentType.isPresent()) {
             String componentTypeTargetDescription = bracketFormat(componentType.get().getName());
-            String componentTypeDependencyDescription = originDescription + " depends on component type " + componentTypeTargetDescription;
-            String componentTypeDescription = componentTypeDependencyDescription + " in " + sourceCodeLocation;
-            result.addAll(asSet(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation.getLineNumber())));
+            result.addAll(asSet(tryCreateDependency(
+                    originClass, componentType.get(), sourceCodeLocation.getLineNumber(), originDescription, "depends on component type", componentTypeTargetDescription)));
             componentType = componentType.get().tryGetComponentType();
         }
         return result.build();
     }
 
-    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, JavaClass targetClass, String description, int lineNumber) {
+    private static Optional<Dependency> tryCreateDependency(
+            JavaClass originClass, JavaClass targetClass, int lineNumber, String originDescription, String dependencyType, String targetDescription) {
+
         if (originClass.equals(targetClass) || targetClass.isPrimitive()) {
             return Optional.empty();
         }
-        return Optional.of(new Dependency(originClass, targetClass, lineNumber, description));
+        return Optional.of(new Dependency(originClass, targetClass, lineNumber, originDescription, dependencyType, targetDescription));
+    }
+
+    static Dependency fromColumns(
+            JavaClass originClass, JavaClass targetClass, int lineNumber, String originDescription, String dependencyType, String targetDescription) {
+        return new Dependency(originClass, targetClass, lineNumber, originDescription, dependencyType, targetDescription);
     }
 
     private static String bracketFormat(String name) {
@@ -256,15 +264,37 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
     @Override
     @PublicAPI(usage = ACCESS)
     public String getDescription() {
+        if (description == null) {
+            description = originDescription + " " + dependencyType + " " + targetDescription + " in " + getSourceCodeLocation();
+        }
         return description;
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public SourceCodeLocation getSourceCodeLocation() {
+        if (sourceCodeLocation == null) {
+            sourceCodeLocation = SourceCodeLocation.of(originClass, lineNumber);
+        }
         return sourceCodeLocation;
     }
 
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    String getOriginDescription() {
+        return originDescription;
+    }
+
+    String getDependencyType() {
+        return dependencyType;
+    }
+
+    String getTargetDescription() {
+        return targetDescription;
+    }
+
     @Override
     @PublicAPI(usage = ACCESS)
     public int compareTo(Dependency o) {
@@ -291,7 +321,9 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
         return Objects.equals(this.originClass, other.originClass)
                 && Objects.equals(this.targetClass, other.targetClass)
                 && Objects.equals(this.lineNumber, other.lineNumber)
-                && Objects.equals(this.description, other.description);
+                && Objects.equals(this.originDescription, other.originDescription)
+                && Objects.equals(this.dependencyType, other.dependencyType)
+                && Objects.equals(this.targetDescription, other.targetDescription);
     }
 
     @Override
@@ -300,7 +332,7 @@ public class Dependency implements HasDescription, Comparable<Dependency>, HasSo
                 .add("originClass", originClass)
                 .add("targetClass", targetClass)
                 .add("lineNumber", lineNumber)
-                .add("description", description)
+                .add("description", getDescription())
                 .toString();
     }
 
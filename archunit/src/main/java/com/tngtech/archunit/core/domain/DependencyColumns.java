@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.lang.ref.SoftReference;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The direct dependencies of one origin class in columnar format (compare {@link DependencyStore}).
+ * {@link Dependency} objects are materialized on first access and then cached softly, so repeated iterations
+ * do not allocate again, but the garbage collector can still reclaim them if memory gets scarce.
+ */
+final class DependencyColumns extends AbstractSet<Dependency> {
+    private final ClassHierarchyIndex classIndex;
+    private final JavaClass origin;
+    private final int[] targetIds;
+    private final int[] lineNumbers;
+    private final String[] originDescriptions;
+    private final String[] dependencyTypes;
+    private final String[] targetDescriptions;
+    private volatile SoftReference<Dependency[]> materialized = new SoftReference<>(null);
+
+    private DependencyColumns(ClassHierarchyIndex classIndex, Builder builder) {
+        this.classIndex = classIndex;
+        this.origin = builder.origin;
+        this.targetIds = Arrays.copyOf(builder.targetIds, builder.size);
+        this.lineNumbers = Arrays.copyOf(builder.lineNumbers, builder.size);
+        this.originDescriptions = Arrays.copyOf(builder.originDescriptions, builder.size);
+        this.dependencyTypes = Arrays.copyOf(builder.dependencyTypes, builder.size);
+        this.targetDescriptions = Arrays.copyOf(builder.targetDescriptions, builder.size);
+    }
+
+    JavaClass getOrigin() {
+        return origin;
+    }
+
+    int getTargetId(int position) {
+        return targetIds[position];
+    }
+
+    void countTargets(int[] countsByTargetIdShiftedByOne) {
+        for (int targetId : targetIds) {
+            countsByTargetIdShiftedByOne[targetId + 1]++;
+        }
+    }
+
+    /**
+     * Concurrent callers might both materialize the same {@link Dependency}, which is harmless, since they are equal.
+     */
+    Dependency get(int position) {
+        Dependency[] dependencies = getMaterializedDependencies();
+        Dependency result = dependencies[position];
+        if (result == null) {
+            result = Dependency.fromColumns(
+                    origin, classIndex.getClassById(targetIds[position]), lineNumbers[position],
+                    originDescriptions[position], dependencyTypes[position], targetDescriptions[position]);
+            dependencies[position] = result;
+        }
+        return result;
+    }
+
+    private Dependency[] getMaterializedDependencies() {
+        Dependency[] result = materialized.get();
+        if (result == null) {
+            result = new Dependency[targetIds.length];
+            materialized = new SoftReference<>(result);
+        }
+        return result;
+    }
+
+    /**
+     * Only compares the primitive columns, until target and line number match, so no {@link Dependency} is materialized
+     * for any other position.
+     */
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Dependency)) {
+            return false;
+        }
+        Dependency dependency = (Dependency) object;
+        if (!dependency.getOriginClass().equals(origin) || !classIndex.contains(dependency.getTargetClass())) {
+            return false;
+        }
+        int targetId = dependency.getTargetClass().getClassId();
+        for (int position = 0; position < targetIds.length; position++) {
+            if (targetIds[position] == targetId && lineNumbers[position] == dependency.getLineNumber() && get(position).equals(dependency)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Dependency> iterator() {
+        return new Iterator<Dependency>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < targetIds.length;
+            }
+
+            @Override
+            public Dependency next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return targetIds.length;
+    }
+
+    static class Builder {
+        private final JavaClass origin;
+        private int size = 0;
+        private int[] targetIds;
+        private int[] lineNumbers;
+        private String[] originDescriptions;
+        private String[] dependencyTypes;
+        private String[] targetDescriptions;
+
+        Builder(JavaClass origin, int expectedSize) {
+            this.origin = origin;
+            targetIds = new int[expectedSize];
+            lineNumbers = new int[expectedSize];
+            originDescriptions = new String[expectedSize];
+            dependencyTypes = new String[expectedSize];
+            targetDescriptions = new String[expectedSize];
+        }
+
+        void add(int targetId, int lineNumber, String originDescription, String dependencyType, String targetDescription) {
+            if (size == targetIds.length) {
+                grow();
+            }
+            targetIds[size] = targetId;
+            lineNumbers[size] = lineNumber;
+            originDescriptions[size] = originDescription;
+            dependencyTypes[size] = dependencyType;
+            targetDescriptions[size] = targetDescription;
+            size++;
+        }
+
+        private void grow() {
+            int newLength = Math.max(4, targetIds.length * 2);
+            targetIds = Arrays.copyOf(targetIds, newLength);
+            lineNumbers = Arrays.copyOf(lineNumbers, newLength);
+            originDescriptions = Arrays.copyOf(originDescriptions, newLength);
+            dependencyTypes = Arrays.copyOf(dependencyTypes, newLength);
+            targetDescriptions = Arrays.copyOf(targetDescriptions, newLength);
+        }
+
+        DependencyColumns build(ClassHierarchyIndex classIndex) {
+            return new DependencyColumns(classIndex, this);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import com.tngtech.archunit.base.Suppliers;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Holds the direct {@link Dependency Dependencies} of all classes of one import in a columnar format,
+ * i.e. per origin class the target class ids, line numbers and (canonicalized) description parts in arrays.
+ * The same columns back both directions, {@link JavaClass#getDirectDependenciesFromSelf()} and
+ * {@link JavaClass#getDirectDependenciesToSelf()}. {@link Dependency} objects are only materialized once a caller
+ * iterates over the respective {@link Set}, and then only softly retained (compare {@link DependencyColumns}).
+ */
+final class DependencyStore {
+    static final DependencyStore EMPTY = new DependencyStore(ClassHierarchyIndex.EMPTY);
+
+    private final ClassHierarchyIndex classIndex;
+    private final ConcurrentMap<String, String> canonicalStrings = new ConcurrentHashMap<>();
+    private final List<JavaClassDependencies> allDependencies = new ArrayList<>();
+    private final Supplier<ReverseIndex> reverseIndex = Suppliers.memoize(this::createReverseIndex);
+
+    DependencyStore(ClassHierarchyIndex classIndex) {
+        this.classIndex = classIndex;
+    }
+
+    void register(JavaClassDependencies dependencies) {
+        allDependencies.add(dependencies);
+    }
+
+    /**
+     * @return the given dependencies in columnar format, if the origin is part of this store's import,
+     *         otherwise the dependencies themselves
+     */
+    Set<Dependency> compress(JavaClass origin, Set<Dependency> dependencies) {
+        if (!classIndex.contains(origin)) {
+            return dependencies;
+        }
+
+        DependencyColumns.Builder columns = new DependencyColumns.Builder(origin, dependencies.size());
+        for (Dependency dependency : dependencies) {
+            checkState(classIndex.contains(dependency.getTargetClass()),
+                    "Target %s of dependency from %s is not part of the import, this is likely a bug!", dependency.getTargetClass().getName(), origin.getName());
+            columns.add(
+                    dependency.getTargetClass().getClassId(),
+                    dependency.getLineNumber(),
+                    canonicalize(dependency.getOriginDescription()),
+                    canonicalize(dependency.getDependencyType()),
+                    canonicalize(dependency.getTargetDescription()));
+        }
+        return columns.build(classIndex);
+    }
+
+    private String canonicalize(String string) {
+        String existing = canonicalStrings.putIfAbsent(string, string);
+        return existing != null ? existing : string;
+    }
+
+    Set<Dependency> getDirectDependenciesTo(JavaClass target) {
+        return classIndex.contains(target) ? reverseIndex.get().getDependenciesTo(target) : Collections.emptySet();
+    }
+
+    /**
+     * Inverting the dependencies needs the dependencies from every class of the import, which are usually
+     * not computed yet when the first {@link JavaClass#getDirectDependenciesToSelf()} is requested.
+     * Since the dependencies of each class can be computed independently (and {@link #compress(JavaClass, Set)}
+     * is thread safe) we compute all missing ones in parallel, each writing only its own slot.
+     * Grouping the resulting columns by target is then a cheap counting sort over int arrays.
+     */
+    private ReverseIndex createReverseIndex() {
+        DependencyColumns[] columnsInRegistrationOrder = new DependencyColumns[allDependencies.size()];
+        IntStream.range(0, allDependencies.size()).parallel().forEach(i -> {
+            Set<Dependency> dependenciesFromClass = allDependencies.get(i).getDirectDependenciesFromClass();
+            if (dependenciesFromClass instanceof DependencyColumns) {
+                columnsInRegistrationOrder[i] = (DependencyColumns) dependenciesFromClass;
+            }
+        });
+        return new ReverseIndex(classIndex.size(), columnsInRegistrationOrder);
+    }
+
+    /**
+     * Groups all dependencies by target id in a compressed sparse row format, i.e. the dependencies to the class
+     * with id {@code t} are referenced by {@code columnIndexes[offsets[t]..offsets[t+1]]} together with their position
+     * within the respective {@link DependencyColumns}. The dependencies to each class are ordered like the classes
+     * have been registered and then like the dependencies from each class.
+     */
+    private static class ReverseIndex {
+        private final DependencyColumns[] columns;
+        private final int[] offsets;
+        private final int[] columnIndexes;
+        private final int[] positions;
+
+        ReverseIndex(int numberOfClasses, DependencyColumns[] columns) {
+            this.columns = columns;
+            offsets = new int[numberOfClasses + 1];
+            for (DependencyColumns columnsOfOrigin : columns) {
+                if (columnsOfOrigin != null) {
+                    columnsOfOrigin.countTargets(offsets);
+                }
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+
+            columnIndexes = new int[offsets[offsets.length - 1]];
+            positions = new int[columnIndexes.length];
+            int[] next = new int[numberOfClasses];
+            for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+                DependencyColumns columnsOfOrigin = columns[columnIndex];
+                for (int position = 0; columnsOfOrigin != null && position < columnsOfOrigin.size(); position++) {
+                    int targetId = columnsOfOrigin.getTargetId(position);
+                    int index = offsets[targetId] + next[targetId]++;
+                    columnIndexes[index] = columnIndex;
+                    positions[index] = position;
+                }
+            }
+        }
+
+        Set<Dependency> getDependenciesTo(JavaClass target) {
+            int from = offsets[target.getClassId()];
+            int to = offsets[target.getClassId() + 1];
+            return new AbstractSet<Dependency>() {
+                @Override
+                public Iterator<Dependency> iterator() {
+                    return new Iterator<Dependency>() {
+                        private int next = from;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < to;
+                        }
+
+                        @Override
+                        public Dependency next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int index = next++;
+                            return columns[columnIndexes[index]].get(positions[index]);
+                        }
+                    };
+                }
+
+                /**
+                 * Only the dependencies of the origin have to be searched, which are usually much fewer
+                 */
+                @Override
+                public boolean contains(Object object) {
+                    if (!(object instanceof Dependency) || !((Dependency) object).getTargetClass().equals(target)) {
+                        return false;
+                    }
+                    Set<Dependency> dependenciesFromOrigin = ((Dependency) object).getOriginClass().getDirectDependenciesFromSelf();
+                    return dependenciesFromOrigin instanceof DependencyColumns && dependenciesFromOrigin.contains(object);
+                }
+
+                @Override
+                public int size() {
+                    return to - from;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * Exposes the type of a {@link Dependency} as used within its description, e.g. {@code "calls"}, {@code "extends class"}
+ * or {@code "has parameter of type"}, for machine-readable reports of violations. For a {@link JavaAccess} this is the type
+ * of the {@link Dependency} the access constitutes, so accesses and dependencies share the same set of values.
+ */
+@Internal
+public final class DependencyTypes {
+    private DependencyTypes() {
+    }
+
+    public static String typeOf(Dependency dependency) {
+        return dependency.getDependencyType();
+    }
+
+    public static String typeOf(JavaAccess<?> access) {
+        return access.descriptionVerb();
+    }
+}
@@ -28,6 +28,7 @@ import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorReferenceTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodReferenceTarget;
+import com.tngtech.archunit.core.domain.Source.Md5sum;
 import com.tngtech.archunit.core.importer.DomainBuilders;
 import com.tngtech.archunit.core.importer.DomainBuilders.CodeUnitAccessTargetBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.FieldAccessTargetBuilder;
@@ -168,8 +169,12 @@ public class DomainObjectCreationContext {
         return new JavaEnumConstant(builder);
     }
 
-    public static Source createSource(URI uri, Optional<String> sourceFileName, boolean md5InClassSourcesEnabled) {
-        return new Source(uri, sourceFileName, md5InClassSourcesEnabled);
+    public static Source createSource(URI uri, Optional<String> sourceFileName, Optional<Md5sum> checksum) {
+        return new Source(uri, sourceFileName, checksum.orElse(Md5sum.DISABLED));
+    }
+
+    public static Md5sum createChecksum(byte[] classFileBytes, ChecksumAlgorithm algorithm) {
+        return Md5sum.of(classFileBytes, algorithm);
     }
 
     public static ReferencedClassObject createReferencedClassObject(JavaCodeUnit codeUnit, JavaClass javaClass, int lineNumber) {
@@ -22,6 +22,7 @@ import java.util.Set;
 
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.core.importer.DomainBuilders.TryCatchBlockBuilder;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 @Internal
 public interface ImportContext {
@@ -64,4 +65,8 @@ public interface ImportContext {
     Set<TryCatchBlockBuilder> createTryCatchBlockBuilders(JavaCodeUnit codeUnit);
 
     JavaClass resolveClass(String fullyQualifiedClassName);
+
+    ImportDetailLevel getImportDetailLevel();
+
+    boolean isPredicateResultMemoizationEnabled();
 }
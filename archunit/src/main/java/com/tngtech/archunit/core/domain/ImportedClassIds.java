@@ -0,0 +1,48 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * Exposes the dense ids {@code 0 ..< number of classes} ArchUnit assigns to all classes of one import,
+ * so algorithms outside of this package can index arrays by class instead of building hash maps per evaluation.
+ */
+@Internal
+public final class ImportedClassIds {
+    public static final int NOT_PART_OF_IMPORT = -1;
+
+    private ImportedClassIds() {
+    }
+
+    /**
+     * @return the number of classes of the import of {@code javaClass}, i.e. the (exclusive) upper bound of all ids
+     *         of this import (0 if {@code javaClass} has not been imported)
+     */
+    public static int getNumberOfClassesOfImport(JavaClass javaClass) {
+        ClassHierarchyIndex classIndex = javaClass.getClassHierarchyIndex();
+        return classIndex != null ? classIndex.size() : 0;
+    }
+
+    /**
+     * @return the id of {@code javaClass}, if it has been imported together with {@code classOfImport},
+     *         otherwise {@link #NOT_PART_OF_IMPORT}
+     */
+    public static int getIdWithinImportOf(JavaClass classOfImport, JavaClass javaClass) {
+        ClassHierarchyIndex classIndex = classOfImport.getClassHierarchyIndex();
+        return classIndex != null && classIndex.contains(javaClass) ? javaClass.getClassId() : NOT_PART_OF_IMPORT;
+    }
+}
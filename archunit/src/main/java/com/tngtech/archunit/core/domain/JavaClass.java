@@ -16,18 +16,23 @@
 package com.tngtech.archunit.core.domain;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
 import com.tngtech.archunit.base.ChainableFunction;
@@ -44,12 +49,15 @@ import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
 import com.tngtech.archunit.core.domain.properties.HasTypeParameters;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassBuilder;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Sets.union;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
+import static com.tngtech.archunit.base.DescribedPredicate.EvaluationCost.CHEAP;
 import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
 import static com.tngtech.archunit.base.DescribedPredicate.not;
 import static com.tngtech.archunit.core.domain.Formatters.formatNamesOf;
@@ -64,7 +72,6 @@ import static com.tngtech.archunit.core.domain.JavaModifier.ENUM;
 import static com.tngtech.archunit.core.domain.JavaType.Functions.TO_ERASURE;
 import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Utils.toAnnotationOfType;
 import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_NAME;
-import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_RAW_TYPE;
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -116,17 +123,26 @@ public class JavaClass
     private final Set<JavaClass> subclasses = new HashSet<>();
     private final Supplier<Set<JavaClass>> allSubclasses = Suppliers.memoize(() -> {
         Set<JavaClass> result = new HashSet<>();
-        for (JavaClass subclass : subclasses) {
-            result.add(subclass);
-            result.addAll(subclass.getAllSubclasses());
+        Deque<JavaClass> toVisit = new ArrayDeque<>(subclasses);
+        while (!toVisit.isEmpty()) {
+            JavaClass subclass = toVisit.poll();
+            if (result.add(subclass)) {
+                toVisit.addAll(subclass.subclasses);
+            }
         }
         return ImmutableSet.copyOf(result);
     });
+    private ClassHierarchyIndex classHierarchyIndex = ClassHierarchyIndex.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private PredicateResults predicateResults;  // only set if predicate results are memoized for the import of this class
+    private int classId = -1;  // dense id within the import, assigned by the ClassHierarchyIndex
     private EnclosingDeclaration enclosingDeclaration = EnclosingDeclaration.ABSENT;
     private Optional<JavaClass> componentType = Optional.empty();
     private Map<String, JavaAnnotation<JavaClass>> annotations = emptyMap();
+    private final Supplier<List<JavaAnnotation<?>>> metaAnnotationClosure = Suppliers.memoize(() -> MetaAnnotations.createClosureOf(this));
+    private final Supplier<Set<String>> metaAnnotationTypeNames = Suppliers.memoize(() -> MetaAnnotations.createTypeNameClosureOf(this));
     private JavaClassDependencies javaClassDependencies = new JavaClassDependencies(this);  // just for stubs; will be overwritten for imported classes
     private ReverseDependencies reverseDependencies = ReverseDependencies.EMPTY;  // just for stubs; will be overwritten for imported classes
+    private ImportDetailLevel importDetailLevel = ImportDetailLevel.FULL;
     private final CompletionProcess completionProcess;
 
     JavaClass(JavaClassBuilder builder) {
@@ -574,13 +590,27 @@ public class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isMetaAnnotatedWith(String typeName) {
-        return isMetaAnnotatedWith(GET_RAW_TYPE.then(GET_NAME).is(equalTo(typeName)));
+        return MetaAnnotations.isMetaAnnotatedWith(annotations.values(), typeName);
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isMetaAnnotatedWith(DescribedPredicate<? super JavaAnnotation<?>> predicate) {
-        return CanBeAnnotated.Utils.isMetaAnnotatedWith(annotations.values(), predicate);
+        return MetaAnnotations.isMetaAnnotatedWith(annotations.values(), predicate);
+    }
+
+    /**
+     * @return all annotations this annotation type is (transitively) meta-annotated with, each type only once
+     */
+    List<JavaAnnotation<?>> getMetaAnnotationClosure() {
+        return metaAnnotationClosure.get();
+    }
+
+    /**
+     * @return the name of this annotation type together with the names of all annotation types within {@link #getMetaAnnotationClosure()}
+     */
+    Set<String> getMetaAnnotationTypeNames() {
+        return metaAnnotationTypeNames.get();
     }
 
     /**
@@ -642,11 +672,13 @@ public class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecks() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "instanceof checks in", getName());
         return members.getInstanceofChecks();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<ReferencedClassObject> getReferencedClassObjects() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "referenced class objects in", getName());
         return members.getReferencedClassObjects();
     }
 
@@ -1049,6 +1081,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesFromSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "field accesses from", getName());
         return members.getFieldAccessesFromSelf();
     }
 
@@ -1110,6 +1143,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "method calls from", getName());
         return members.getMethodCallsFromSelf();
     }
 
@@ -1127,6 +1161,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "constructor calls from", getName());
         return members.getConstructorCallsFromSelf();
     }
 
@@ -1161,6 +1196,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesFromSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "method references from", getName());
         return members.getMethodReferencesFromSelf();
     }
 
@@ -1178,6 +1214,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesFromSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "constructor references from", getName());
         return members.getConstructorReferencesFromSelf();
     }
 
@@ -1214,6 +1251,7 @@ public class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesToSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "field accesses to", getName());
         return members.getFieldAccessesToSelf();
     }
 
@@ -1246,6 +1284,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsToSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "method calls to", getName());
         return members.getMethodCallsToSelf();
     }
 
@@ -1254,6 +1293,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesToSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "method references to", getName());
         return members.getMethodReferencesToSelf();
     }
 
@@ -1262,6 +1302,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsToSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "constructor calls to", getName());
         return members.getConstructorCallsToSelf();
     }
 
@@ -1270,6 +1311,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesToSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "constructor references to", getName());
         return members.getConstructorReferencesToSelf();
     }
 
@@ -1350,6 +1392,7 @@ public class JavaClass
      */
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecksWithTypeOfSelf() {
+        checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "instanceof checks with type", getName());
         return reverseDependencies.getInstanceofChecksWithTypeOf(this);
     }
 
@@ -1380,15 +1423,15 @@ public class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(String typeName) {
+        if (classHierarchyIndex.contains(classId)) {
+            return classHierarchyIndex.isAssignableFrom(classId, typeName);
+        }
         return isAssignableFrom(GET_NAME.is(equalTo(typeName)));
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .add(this).addAll(getAllSubclasses()).build();
-
-        return anyMatches(possibleTargets, predicate);
+        return predicate.test(this) || anyMatches(getAllSubclasses(), predicate);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -1398,19 +1441,24 @@ public class JavaClass
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(final String typeName) {
+        if (classHierarchyIndex.contains(classId)) {
+            return classHierarchyIndex.isAssignableTo(classId, typeName);
+        }
         return isAssignableTo(GET_NAME.is(equalTo(typeName)));
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .addAll(getClassHierarchy()).addAll(getAllRawInterfaces()).build();
-
-        return anyMatches(possibleTargets, predicate);
+        return anyMatches(getClassHierarchy(), predicate) || anyMatches(getAllRawInterfaces(), predicate);
     }
 
-    private boolean anyMatches(List<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
-        return possibleTargets.stream().anyMatch(predicate);
+    private static boolean anyMatches(Collection<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
+        for (JavaClass possibleTarget : possibleTargets) {
+            if (predicate.test(possibleTarget)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -1487,10 +1535,11 @@ public class JavaClass
         completionProcess.markAnnotationsComplete();
     }
 
-    JavaClassDependencies completeFrom(ImportContext context) {
+    JavaClassDependencies completeFrom(ImportContext context, DependencyStore dependencyStore) {
+        importDetailLevel = context.getImportDetailLevel();
         completeComponentType(context);
         members.completeAccessesFrom(context);
-        javaClassDependencies = new JavaClassDependencies(this);
+        javaClassDependencies = new JavaClassDependencies(this, dependencyStore);
         return javaClassDependencies;
     }
 
@@ -1503,6 +1552,42 @@ public class JavaClass
         }
     }
 
+    void setClassHierarchyIndex(ClassHierarchyIndex classHierarchyIndex, int classId) {
+        this.classHierarchyIndex = classHierarchyIndex;
+        this.classId = classId;
+    }
+
+    int getClassId() {
+        return classId;
+    }
+
+    ClassHierarchyIndex getClassHierarchyIndex() {
+        return classHierarchyIndex;
+    }
+
+    void setPredicateResults(PredicateResults predicateResults) {
+        this.predicateResults = predicateResults;
+    }
+
+    PredicateResults getPredicateResults() {
+        return predicateResults;
+    }
+
+    boolean isImportedWithAtLeast(ImportDetailLevel detailLevel) {
+        return importDetailLevel.compareTo(detailLevel) >= 0;
+    }
+
+    /**
+     * Fails fast if details of this class are requested that have not been imported (compare {@link ImportDetailLevel}),
+     * since returning empty results would silently make rules pass.
+     */
+    void checkDetailsImported(ImportDetailLevel requiredDetailLevel, String details, String subject) {
+        checkState(isImportedWithAtLeast(requiredDetailLevel),
+                "Cannot determine %s %s, since classes have been imported with ImportDetailLevel.%s, but at least ImportDetailLevel.%s is required "
+                        + "(compare ClassFileImporter.withDetailLevel(..))",
+                details, subject, importDetailLevel, requiredDetailLevel);
+    }
+
     void setReverseDependencies(ReverseDependencies reverseDependencies) {
         this.reverseDependencies = reverseDependencies;
         members.setReverseDependencies(reverseDependencies);
@@ -2156,12 +2241,12 @@ public class JavaClass
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> type(final Class<?> type) {
-            return equalTo(type.getName()).<JavaClass>onResultOf(GET_NAME).as("type " + type.getName());
+            return equalTo(type.getName()).<JavaClass>onResultOf(GET_NAME).as("type " + type.getName()).withEvaluationCost(CHEAP);
         }
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> simpleName(final String name) {
-            return equalTo(name).onResultOf(GET_SIMPLE_NAME).as("simple name '%s'", name);
+            return equalTo(name).onResultOf(GET_SIMPLE_NAME).as("simple name '%s'", name).withEvaluationCost(CHEAP);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2218,7 +2303,7 @@ public class JavaClass
          */
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableTo(final String typeName) {
-            return assignableTo(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableToTypeNamePredicate(typeName);
         }
 
         /**
@@ -2226,7 +2311,7 @@ public class JavaClass
          */
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableFrom(final String typeName) {
-            return assignableFrom(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableFromTypeNamePredicate(typeName);
         }
 
         /**
@@ -2331,7 +2416,8 @@ public class JavaClass
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(final String[] packageIdentifiers, final String description) {
             final Set<PackageMatcher> packageMatchers = stream(packageIdentifiers).map(PackageMatcher::of).collect(toSet());
-            return new PackageMatchesPredicate(packageMatchers, description);
+            String predicateKey = "reside in any package " + ImmutableSortedSet.copyOf(packageIdentifiers);
+            return new PackageMatchesPredicate(packageMatchers, predicateKey, description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2475,6 +2561,11 @@ public class JavaClass
             public boolean test(JavaClass input) {
                 return input.getSimpleName().startsWith(prefix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class SimpleNameContainingPredicate extends DescribedPredicate<JavaClass> {
@@ -2489,6 +2580,11 @@ public class JavaClass
             public boolean test(JavaClass input) {
                 return input.getSimpleName().contains(infix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> {
@@ -2503,6 +2599,11 @@ public class JavaClass
             public boolean test(JavaClass input) {
                 return input.getSimpleName().endsWith(suffix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class AssignableToPredicate extends DescribedPredicate<JavaClass> {
@@ -2517,6 +2618,49 @@ public class JavaClass
             public boolean test(JavaClass input) {
                 return input.isAssignableTo(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+        }
+
+        private static class AssignableToTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableToTypeNamePredicate(String typeName) {
+                super("assignable to " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean test(JavaClass input) {
+                return input.isAssignableTo(typeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+        }
+
+        private static class AssignableFromTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableFromTypeNamePredicate(String typeName) {
+                super("assignable from " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean test(JavaClass input) {
+                return input.isAssignableFrom(typeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
         }
 
         private static class AssignableFromPredicate extends DescribedPredicate<JavaClass> {
@@ -2531,19 +2675,31 @@ public class JavaClass
             public boolean test(JavaClass input) {
                 return input.isAssignableFrom(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
         }
 
         private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+            private final Predicate<JavaClass> packageMatches;
+            private final String predicateKey;
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String predicateKey, String description) {
                 super(description);
-                this.packageMatchers = packageMatchers;
+                this.packageMatches = input -> packageMatchers.stream().anyMatch(matcher -> matcher.matches(input.getPackageName()));
+                this.predicateKey = predicateKey;
             }
 
             @Override
             public boolean test(JavaClass input) {
-                return packageMatchers.stream().anyMatch(matcher -> matcher.matches(input.getPackageName()));
+                return PredicateResults.test(input, predicateKey, packageMatches);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
             }
         }
 
@@ -24,6 +24,7 @@ import com.google.common.collect.Streams;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.JavaAnnotation.DefaultParameterVisitor;
 import com.tngtech.archunit.core.domain.properties.HasAnnotations;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 import static com.google.common.base.Predicates.instanceOf;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
@@ -31,17 +32,26 @@ import static com.tngtech.archunit.base.Suppliers.memoize;
 
 class JavaClassDependencies {
     private final JavaClass javaClass;
+    private final DependencyStore dependencyStore;
     private final Supplier<Set<Dependency>> directDependenciesFromClass;
 
     JavaClassDependencies(JavaClass javaClass) {
+        this(javaClass, DependencyStore.EMPTY);
+    }
+
+    JavaClassDependencies(JavaClass javaClass, DependencyStore dependencyStore) {
         this.javaClass = javaClass;
+        this.dependencyStore = dependencyStore;
         this.directDependenciesFromClass = createDirectDependenciesFromClassSupplier();
     }
 
     private Supplier<Set<Dependency>> createDirectDependenciesFromClassSupplier() {
-        return memoize(() ->
-                Streams.concat(
-                        dependenciesFromAccesses(javaClass.getAccessesFromSelf()),
+        return memoize(() -> dependencyStore.compress(javaClass, createDirectDependenciesFromClass()));
+    }
+
+    private Set<Dependency> createDirectDependenciesFromClass() {
+        return Streams.concat(
+                        dependenciesFromAccessesFromSelf(),
                         inheritanceDependenciesFromSelf(),
                         fieldDependenciesFromSelf(),
                         returnTypeDependenciesFromSelf(),
@@ -51,16 +61,18 @@ class JavaClassDependencies {
                         instanceofCheckDependenciesFromSelf(),
                         referencedClassObjectDependenciesFromSelf(),
                         typeParameterDependenciesFromSelf()
-                ).collect(toImmutableSet())
-        );
+                ).collect(toImmutableSet());
     }
 
     Set<Dependency> getDirectDependenciesFromClass() {
         return directDependenciesFromClass.get();
     }
 
-    private Stream<Dependency> dependenciesFromAccesses(Set<JavaAccess<?>> accesses) {
-        return accesses.stream().flatMap(access -> Dependency.tryCreateFromAccess(access).stream());
+    private Stream<Dependency> dependenciesFromAccessesFromSelf() {
+        if (!codeDependenciesImported()) {
+            return Stream.empty();
+        }
+        return javaClass.getAccessesFromSelf().stream().flatMap(access -> Dependency.tryCreateFromAccess(access).stream());
     }
 
     private Stream<Dependency> inheritanceDependenciesFromSelf() {
@@ -178,15 +190,25 @@ class JavaClassDependencies {
     }
 
     private Stream<Dependency> instanceofCheckDependenciesFromSelf() {
+        if (!codeDependenciesImported()) {
+            return Stream.empty();
+        }
         return javaClass.getInstanceofChecks().stream()
                 .flatMap(instanceofCheck -> Dependency.tryCreateFromInstanceofCheck(instanceofCheck).stream());
     }
 
     private Stream<Dependency> referencedClassObjectDependenciesFromSelf() {
+        if (!codeDependenciesImported()) {
+            return Stream.empty();
+        }
         return javaClass.getReferencedClassObjects().stream()
                 .flatMap(referencedClassObject -> Dependency.tryCreateFromReferencedClassObject(referencedClassObject).stream());
     }
 
+    private boolean codeDependenciesImported() {
+        return javaClass.isImportedWithAtLeast(ImportDetailLevel.DEPENDENCIES);
+    }
+
     private Stream<Dependency> typeParameterDependenciesFromSelf() {
         return Stream.concat(
                 classTypeParameterDependenciesFromSelf(),
@@ -15,9 +15,12 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
@@ -27,6 +30,8 @@ import java.util.function.Supplier;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
 import com.tngtech.archunit.base.Suppliers;
 
 import static com.google.common.collect.Iterables.concat;
@@ -54,6 +59,9 @@ class JavaClassMembers {
             .addAll(getAllMethods())
             .addAll(getAllConstructors())
             .build());
+    private final Supplier<Map<String, JavaField>> fieldsByName = Suppliers.memoize(this::indexFieldsByName);
+    private final Supplier<ListMultimap<String, JavaMethod>> methodsByName = Suppliers.memoize(() -> indexByName(getMethods()));
+    private final Supplier<ListMultimap<String, JavaCodeUnit>> codeUnitsByName = Suppliers.memoize(() -> indexByName(getCodeUnits()));
 
     JavaClassMembers(final JavaClass owner, Set<JavaField> fields, Set<JavaMethod> methods, Set<JavaConstructor> constructors, Optional<JavaStaticInitializer> staticInitializer) {
         this.owner = owner;
@@ -117,12 +125,20 @@ class JavaClassMembers {
     }
 
     Optional<JavaField> tryGetField(String name) {
+        return Optional.ofNullable(fieldsByName.get().get(name));
+    }
+
+    // like a linear search we return the first field in iteration order if there should be multiple fields with the same name
+    private Map<String, JavaField> indexFieldsByName() {
+        Map<String, JavaField> result = new HashMap<>();
         for (JavaField field : fields) {
-            if (name.equals(field.getName())) {
-                return Optional.of(field);
-            }
+            result.putIfAbsent(field.getName(), field);
         }
-        return Optional.empty();
+        return result;
+    }
+
+    private static <T extends JavaCodeUnit> ListMultimap<String, T> indexByName(Set<T> codeUnits) {
+        return Multimaps.index(codeUnits, JavaCodeUnit::getName);
     }
 
     Set<JavaCodeUnit> getCodeUnits() {
@@ -130,19 +146,19 @@ class JavaClassMembers {
     }
 
     JavaCodeUnit getCodeUnitWithParameterTypeNames(String name, List<String> parameters) {
-        return findMatchingCodeUnit(codeUnits, name, parameters);
+        return findMatchingCodeUnit(codeUnits, codeUnitsByName.get().get(name), name, parameters);
     }
 
     Optional<JavaCodeUnit> tryGetCodeUnitWithParameterTypeNames(String name, List<String> parameters) {
-        return tryFindMatchingCodeUnit(codeUnits, name, parameters);
+        return tryFindMatchingCodeUnit(codeUnitsByName.get().get(name), parameters);
     }
 
     JavaMethod getMethod(String name, List<String> parameterTypeNames) {
-        return findMatchingCodeUnit(methods, name, ImmutableList.copyOf(parameterTypeNames));
+        return findMatchingCodeUnit(methods, methodsByName.get().get(name), name, ImmutableList.copyOf(parameterTypeNames));
     }
 
     Optional<JavaMethod> tryGetMethod(String name, List<String> parameterTypeNames) {
-        return tryFindMatchingCodeUnit(methods, name, parameterTypeNames);
+        return tryFindMatchingCodeUnit(methodsByName.get().get(name), parameterTypeNames);
     }
 
     Set<JavaMethod> getMethods() {
@@ -154,11 +170,11 @@ class JavaClassMembers {
     }
 
     JavaConstructor getConstructor(List<String> parameterTypeNames) {
-        return findMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, parameterTypeNames);
+        return findMatchingCodeUnit(constructors, constructors, CONSTRUCTOR_NAME, parameterTypeNames);
     }
 
     Optional<JavaConstructor> tryGetConstructor(List<String> parameterTypeNames) {
-        return tryFindMatchingCodeUnit(constructors, CONSTRUCTOR_NAME, parameterTypeNames);
+        return tryFindMatchingCodeUnit(constructors, parameterTypeNames);
     }
 
     Set<JavaConstructor> getConstructors() {
@@ -279,8 +295,8 @@ class JavaClassMembers {
         return result.build();
     }
 
-    private <T extends JavaCodeUnit> T findMatchingCodeUnit(Set<T> codeUnits, String name, List<String> parameters) {
-        Optional<T> codeUnit = tryFindMatchingCodeUnit(codeUnits, name, parameters);
+    private <T extends JavaCodeUnit> T findMatchingCodeUnit(Set<T> codeUnits, Collection<T> codeUnitsWithName, String name, List<String> parameters) {
+        Optional<T> codeUnit = tryFindMatchingCodeUnit(codeUnitsWithName, parameters);
         if (!codeUnit.isPresent()) {
             throw new IllegalArgumentException(
                     String.format("No code unit with name '%s' and parameters %s in codeUnits %s of class %s",
@@ -289,8 +305,8 @@ class JavaClassMembers {
         return codeUnit.get();
     }
 
-    private <T extends JavaCodeUnit> Optional<T> tryFindMatchingCodeUnit(Set<T> codeUnits, String name, List<String> parameters) {
-        Set<T> matching = findCodeUnitsWithMatchingNameAndParameters(codeUnits, name, parameters);
+    private <T extends JavaCodeUnit> Optional<T> tryFindMatchingCodeUnit(Collection<T> codeUnitsWithName, List<String> parameters) {
+        Set<T> matching = findCodeUnitsWithMatchingParameters(codeUnitsWithName, parameters);
 
         if (matching.isEmpty()) {
             return Optional.empty();
@@ -305,9 +321,8 @@ class JavaClassMembers {
         }
     }
 
-    private <T extends JavaCodeUnit> Set<T> findCodeUnitsWithMatchingNameAndParameters(Set<T> codeUnits, String name, List<String> parameters) {
-        return codeUnits.stream()
-                .filter(codeUnit -> name.equals(codeUnit.getName()))
+    private <T extends JavaCodeUnit> Set<T> findCodeUnitsWithMatchingParameters(Collection<T> codeUnitsWithName, List<String> parameters) {
+        return codeUnitsWithName.stream()
                 .filter(codeUnit -> parameters.equals(namesOf(codeUnit.getRawParameterTypes())))
                 .collect(toSet());
     }
@@ -195,11 +195,17 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     static JavaClasses of(
             Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportContext importContext) {
 
-        ReverseDependencies.Creation reverseDependenciesCreation = new ReverseDependencies.Creation();
         JavaPackage defaultPackage = JavaPackage.from(allClasses);
+        ClassHierarchyIndex classIndex = ClassHierarchyIndex.index(allClasses);
+        DependencyStore dependencyStore = new DependencyStore(classIndex);
+        ReverseDependencies.Creation reverseDependenciesCreation = new ReverseDependencies.Creation(dependencyStore);
+        if (importContext.isPredicateResultMemoizationEnabled()) {
+            PredicateResults predicateResults = new PredicateResults(classIndex);
+            allClasses.forEach(clazz -> clazz.setPredicateResults(predicateResults));
+        }
         for (JavaClass clazz : allClasses) {
             setPackage(clazz, defaultPackage);
-            JavaClassDependencies classDependencies = clazz.completeFrom(importContext);
+            JavaClassDependencies classDependencies = clazz.completeFrom(importContext, dependencyStore);
             reverseDependenciesCreation.registerDependenciesOf(clazz, classDependencies);
         }
         reverseDependenciesCreation.finish(allClasses);
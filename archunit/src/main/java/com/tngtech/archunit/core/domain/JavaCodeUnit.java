@@ -35,6 +35,7 @@ import com.tngtech.archunit.core.domain.properties.HasThrowsClause;
 import com.tngtech.archunit.core.domain.properties.HasTypeParameters;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaCodeUnitBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.TryCatchBlockBuilder;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Sets.union;
@@ -170,6 +171,7 @@ public abstract class JavaCodeUnit
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccesses() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "field accesses from", getFullName());
         return fieldAccesses;
     }
 
@@ -178,36 +180,43 @@ public abstract class JavaCodeUnit
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "method calls from", getFullName());
         return methodCalls;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "constructor calls from", getFullName());
         return constructorCalls;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getMethodReferencesFromSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "method references from", getFullName());
         return methodReferences;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getConstructorReferencesFromSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "constructor references from", getFullName());
         return constructorReferences;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<ReferencedClassObject> getReferencedClassObjects() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "referenced class objects in", getFullName());
         return referencedClassObjects;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<InstanceofCheck> getInstanceofChecks() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "instanceof checks in", getFullName());
         return instanceofChecks;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<TryCatchBlock> getTryCatchBlocks() {
+        getOwner().checkDetailsImported(ImportDetailLevel.FULL, "try-catch-blocks in", getFullName());
         return tryCatchBlocks;
     }
 
@@ -27,6 +27,7 @@ import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 import com.tngtech.archunit.base.ResolvesTypesViaReflection;
 import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorBuilder;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 import static com.google.common.collect.Sets.union;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -66,11 +67,13 @@ public final class JavaConstructor extends JavaCodeUnit {
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getCallsOfSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "calls of", getFullName());
         return getReverseDependencies().getCallsTo(this);
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorReference> getReferencesToSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "references to", getFullName());
         return getReverseDependencies().getReferencesTo(this);
     }
 
@@ -27,6 +27,7 @@ import com.tngtech.archunit.base.ResolvesTypesViaReflection;
 import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.properties.HasType;
 import com.tngtech.archunit.core.importer.DomainBuilders;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
@@ -68,6 +69,7 @@ public class JavaField extends JavaMember implements HasType {
     @Override
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getAccessesToSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "accesses to", getFullName());
         return getReverseDependencies().getAccessesTo(this);
     }
 
@@ -28,6 +28,7 @@ import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 import com.tngtech.archunit.base.ResolvesTypesViaReflection;
 import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.importer.DomainBuilders;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 import static com.google.common.collect.Sets.union;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -78,11 +79,13 @@ public class JavaMethod extends JavaCodeUnit {
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getCallsOfSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "calls of", getFullName());
         return getReverseDependencies().getCallsTo(this);
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodReference> getReferencesToSelf() {
+        getOwner().checkDetailsImported(ImportDetailLevel.DEPENDENCIES, "references to", getFullName());
         return getReverseDependencies().getReferencesTo(this);
     }
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.lang.annotation.Annotation;
+
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+
+/**
+ * Variants of the annotation predicates of {@link CanBeAnnotated.Predicates} for {@link JavaClass JavaClasses}
+ * that memoize their results via {@link PredicateResults}, so e.g. {@code classes().that().areAnnotatedWith(Entity.class)}
+ * only evaluates the annotations of each class once, no matter how many rules select classes this way.
+ * The fully qualified annotation type name identifies the predicate, thus the results are shared between all these predicates.
+ */
+@Internal
+public final class MemoizedClassPredicates {
+    private MemoizedClassPredicates() {
+    }
+
+    public static DescribedPredicate<JavaClass> annotatedWith(Class<? extends Annotation> annotationType) {
+        return new MemoizedPredicate("annotated with " + annotationType.getName(), CanBeAnnotated.Predicates.annotatedWith(annotationType));
+    }
+
+    public static DescribedPredicate<JavaClass> annotatedWith(String annotationTypeName) {
+        return new MemoizedPredicate("annotated with " + annotationTypeName, CanBeAnnotated.Predicates.annotatedWith(annotationTypeName));
+    }
+
+    public static DescribedPredicate<JavaClass> metaAnnotatedWith(Class<? extends Annotation> annotationType) {
+        return new MemoizedPredicate("meta-annotated with " + annotationType.getName(), CanBeAnnotated.Predicates.metaAnnotatedWith(annotationType));
+    }
+
+    public static DescribedPredicate<JavaClass> metaAnnotatedWith(String annotationTypeName) {
+        return new MemoizedPredicate("meta-annotated with " + annotationTypeName, CanBeAnnotated.Predicates.metaAnnotatedWith(annotationTypeName));
+    }
+
+    private static class MemoizedPredicate extends DescribedPredicate<JavaClass> {
+        private final String predicateKey;
+        private final DescribedPredicate<CanBeAnnotated> predicate;
+
+        MemoizedPredicate(String predicateKey, DescribedPredicate<CanBeAnnotated> predicate) {
+            super(predicate.getDescription());
+            this.predicateKey = predicateKey;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(JavaClass input) {
+            return PredicateResults.test(input, predicateKey, predicate);
+        }
+    }
+}
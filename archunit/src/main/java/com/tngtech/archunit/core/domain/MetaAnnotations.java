@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.base.DescribedPredicate;
+
+/**
+ * Resolves meta-annotations via the closure memoized on each annotation type (compare {@link JavaClass#getMetaAnnotationClosure()}),
+ * so the annotation graph is only walked once per annotation type and import, no matter how many
+ * classes, members or parameters are checked.
+ */
+final class MetaAnnotations {
+    private MetaAnnotations() {
+    }
+
+    static boolean isMetaAnnotatedWith(Collection<? extends JavaAnnotation<?>> annotations, String annotationTypeName) {
+        for (JavaAnnotation<?> annotation : annotations) {
+            if (annotation.getRawType().getMetaAnnotationTypeNames().contains(annotationTypeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isMetaAnnotatedWith(Collection<? extends JavaAnnotation<?>> annotations, DescribedPredicate<? super JavaAnnotation<?>> predicate) {
+        for (JavaAnnotation<?> annotation : annotations) {
+            if (predicate.test(annotation) || anyMatches(annotation.getRawType().getMetaAnnotationClosure(), predicate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyMatches(List<JavaAnnotation<?>> annotations, DescribedPredicate<? super JavaAnnotation<?>> predicate) {
+        for (JavaAnnotation<?> annotation : annotations) {
+            if (predicate.test(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return all meta-annotations reachable from the annotation type, in the order a depth-first search would encounter them.
+     * Like {@link com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Utils#isMetaAnnotatedWith(Collection, DescribedPredicate)}
+     * only the first annotation of each type is considered, which also stops the search on cycles (e.g. {@code @Documented}).
+     */
+    static List<JavaAnnotation<?>> createClosureOf(JavaClass annotationType) {
+        ImmutableList.Builder<JavaAnnotation<?>> result = ImmutableList.builder();
+        Set<String> visitedAnnotationTypes = new HashSet<>();
+        visitedAnnotationTypes.add(annotationType.getName());
+        addMetaAnnotations(annotationType, result, visitedAnnotationTypes);
+        return result.build();
+    }
+
+    private static void addMetaAnnotations(JavaClass annotationType, ImmutableList.Builder<JavaAnnotation<?>> result, Set<String> visitedAnnotationTypes) {
+        for (JavaAnnotation<?> metaAnnotation : annotationType.getAnnotations()) {
+            if (visitedAnnotationTypes.add(metaAnnotation.getRawType().getName())) {
+                result.add(metaAnnotation);
+                addMetaAnnotations(metaAnnotation.getRawType(), result, visitedAnnotationTypes);
+            }
+        }
+    }
+
+    static Set<String> createTypeNameClosureOf(JavaClass annotationType) {
+        ImmutableSet.Builder<String> result = ImmutableSet.<String>builder().add(annotationType.getName());
+        for (JavaAnnotation<?> metaAnnotation : annotationType.getMetaAnnotationClosure()) {
+            result.add(metaAnnotation.getRawType().getName());
+        }
+        return result.build();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Predicate;
+
+/**
+ * Memoizes the results of deterministic built-in predicates for all classes of one import, so e.g.
+ * {@code resideInAPackage("..domain..")} or {@code areAnnotatedWith(Entity.class)} (compare {@link MemoizedClassPredicates})
+ * is only evaluated once per class, no matter how many rules
+ * (or equal predicate instances) test the class. Since the {@link JavaClasses} of an import are also shared via the
+ * {@code ClassCache} of the JUnit support, the results are shared by all rules evaluated against that import.<br>
+ * Predicates are identified by a key that must encode all their parameters. For each key we store two bits per class id,
+ * one marking the class as evaluated and one holding the result. Concurrent evaluations of the same class
+ * simply compute the same result twice.
+ */
+final class PredicateResults {
+    private static final int BITS_PER_CLASS = 2;
+    private static final int CLASSES_PER_WORD = Integer.SIZE / BITS_PER_CLASS;
+    private static final int EVALUATED = 1;
+    private static final int RESULT = 2;
+
+    private final int numberOfClasses;
+    private final ConcurrentMap<String, AtomicIntegerArray> resultsByPredicateKey = new ConcurrentHashMap<>();
+
+    PredicateResults(ClassHierarchyIndex classIndex) {
+        this.numberOfClasses = classIndex.size();
+    }
+
+    /**
+     * @return the memoized result of {@code predicate} for {@code javaClass}, if predicate results are memoized for the import
+     *         of {@code javaClass}, otherwise simply the result of {@code predicate}
+     */
+    static boolean test(JavaClass javaClass, String predicateKey, Predicate<? super JavaClass> predicate) {
+        PredicateResults predicateResults = javaClass.getPredicateResults();
+        return predicateResults != null
+                ? predicateResults.testMemoized(javaClass, predicateKey, predicate)
+                : predicate.test(javaClass);
+    }
+
+    private boolean testMemoized(JavaClass javaClass, String predicateKey, Predicate<? super JavaClass> predicate) {
+        AtomicIntegerArray results = resultsByPredicateKey.computeIfAbsent(predicateKey,
+                key -> new AtomicIntegerArray((numberOfClasses + CLASSES_PER_WORD - 1) / CLASSES_PER_WORD));
+        int wordIndex = javaClass.getClassId() / CLASSES_PER_WORD;
+        int shift = (javaClass.getClassId() % CLASSES_PER_WORD) * BITS_PER_CLASS;
+
+        int bits = results.get(wordIndex) >>> shift;
+        if ((bits & EVALUATED) != 0) {
+            return (bits & RESULT) != 0;
+        }
+
+        boolean result = predicate.test(javaClass);
+        results.accumulateAndGet(wordIndex, (EVALUATED | (result ? RESULT : 0)) << shift, (word, newBits) -> word | newBits);
+        return result;
+    }
+}
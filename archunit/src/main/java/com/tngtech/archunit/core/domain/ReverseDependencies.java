@@ -15,11 +15,8 @@
  */
 package com.tngtech.archunit.core.domain;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -28,7 +25,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
-import com.tngtech.archunit.base.Suppliers;
+import com.tngtech.archunit.core.importer.ImportDetailLevel;
 
 final class ReverseDependencies {
 
@@ -46,7 +43,7 @@ final class ReverseDependencies {
     private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationTypeDependencies;
     private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies;
     private final SetMultimap<JavaClass, InstanceofCheck> instanceofCheckDependencies;
-    private final Supplier<SetMultimap<JavaClass, Dependency>> directDependenciesToClass;
+    private final DependencyStore dependencyStore;
 
     private ReverseDependencies(ReverseDependencies.Creation creation) {
         accessToFieldCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.fieldAccessDependencies.build()));
@@ -63,19 +60,7 @@ final class ReverseDependencies {
         this.annotationTypeDependencies = creation.annotationTypeDependencies.build();
         this.annotationParameterTypeDependencies = creation.annotationParameterTypeDependencies.build();
         this.instanceofCheckDependencies = creation.instanceofCheckDependencies.build();
-        this.directDependenciesToClass = createDirectDependenciesToClassSupplier(creation.allDependencies);
-    }
-
-    private static Supplier<SetMultimap<JavaClass, Dependency>> createDirectDependenciesToClassSupplier(final List<JavaClassDependencies> allDependencies) {
-        return Suppliers.memoize(() -> {
-            ImmutableSetMultimap.Builder<JavaClass, Dependency> result = ImmutableSetMultimap.builder();
-            for (JavaClassDependencies dependencies : allDependencies) {
-                for (Dependency dependency : dependencies.getDirectDependenciesFromClass()) {
-                    result.put(dependency.getTargetClass(), dependency);
-                }
-            }
-            return result.build();
-        });
+        this.dependencyStore = creation.dependencyStore;
     }
 
     Set<JavaFieldAccess> getAccessesTo(JavaField field) {
@@ -135,10 +120,10 @@ final class ReverseDependencies {
     }
 
     Set<Dependency> getDirectDependenciesTo(JavaClass clazz) {
-        return directDependenciesToClass.get().get(clazz);
+        return dependencyStore.getDirectDependenciesTo(clazz);
     }
 
-    static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation());
+    static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation(DependencyStore.EMPTY));
 
     static class Creation {
         private final ImmutableSetMultimap.Builder<JavaClass, JavaFieldAccess> fieldAccessDependencies = ImmutableSetMultimap.builder();
@@ -155,16 +140,23 @@ final class ReverseDependencies {
         private final ImmutableSetMultimap.Builder<JavaClass, JavaAnnotation<?>> annotationTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, InstanceofCheck> instanceofCheckDependencies = ImmutableSetMultimap.builder();
-        private final List<JavaClassDependencies> allDependencies = new ArrayList<>();
+        private final DependencyStore dependencyStore;
+
+        Creation(DependencyStore dependencyStore) {
+            this.dependencyStore = dependencyStore;
+        }
 
         public void registerDependenciesOf(JavaClass clazz, JavaClassDependencies classDependencies) {
-            registerAccesses(clazz);
             registerFields(clazz);
             registerMethods(clazz);
             registerConstructors(clazz);
             registerAnnotations(clazz);
-            registerStaticInitializer(clazz);
-            allDependencies.add(classDependencies);
+            // without code, there are neither accesses nor instanceof checks, so we would only run into the checks for missing details
+            if (clazz.isImportedWithAtLeast(ImportDetailLevel.DEPENDENCIES)) {
+                registerAccesses(clazz);
+                registerInstanceofChecks(clazz);
+            }
+            dependencyStore.register(classDependencies);
         }
 
         private void registerAccesses(JavaClass clazz) {
@@ -200,9 +192,6 @@ final class ReverseDependencies {
                 for (ThrowsDeclaration<JavaMethod> throwsDeclaration : method.getThrowsClause()) {
                     methodsThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
                 }
-                for (InstanceofCheck instanceofCheck : method.getInstanceofChecks()) {
-                    instanceofCheckDependencies.put(instanceofCheck.getRawType(), instanceofCheck);
-                }
             }
         }
 
@@ -214,9 +203,6 @@ final class ReverseDependencies {
                 for (ThrowsDeclaration<JavaConstructor> throwsDeclaration : constructor.getThrowsClause()) {
                     constructorThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
                 }
-                for (InstanceofCheck instanceofCheck : constructor.getInstanceofChecks()) {
-                    instanceofCheckDependencies.put(instanceofCheck.getRawType(), instanceofCheck);
-                }
             }
         }
 
@@ -251,9 +237,9 @@ final class ReverseDependencies {
             return result;
         }
 
-        private void registerStaticInitializer(JavaClass clazz) {
-            if (clazz.getStaticInitializer().isPresent()) {
-                for (InstanceofCheck instanceofCheck : clazz.getStaticInitializer().get().getInstanceofChecks()) {
+        private void registerInstanceofChecks(JavaClass clazz) {
+            for (JavaCodeUnit codeUnit : clazz.getCodeUnits()) {
+                for (InstanceofCheck instanceofCheck : codeUnit.getInstanceofChecks()) {
                     instanceofCheckDependencies.put(instanceofCheck.getRawType(), instanceofCheck);
                 }
             }
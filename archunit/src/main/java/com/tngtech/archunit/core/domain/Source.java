@@ -15,16 +15,11 @@
  */
 package com.tngtech.archunit.core.domain;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
-import com.google.common.io.ByteStreams;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 
@@ -32,8 +27,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
 /**
- * Contains information about an imported class, i.e. the URI from where the class was imported and an md5 sum
- * to compare different versions of the same class file at the same location.
+ * Contains information about an imported class, i.e. the URI from where the class was imported and a checksum
+ * (by default an md5 sum) to compare different versions of the same class file at the same location.
  * <p>
  * <b>NOTE</b>: Since the generation of md5 sums has a performance impact, it is disabled by default.<br>
  * To enable it, add
@@ -41,17 +36,20 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
  * {@value com.tngtech.archunit.ArchConfiguration#ENABLE_MD5_IN_CLASS_SOURCES}=true
  * </code><br><br>
  * to your <code>{@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}</code>.
+ * The checksum is computed from the same bytes the class is imported from. Instead of MD5 a faster algorithm
+ * can be configured via {@value com.tngtech.archunit.ArchConfiguration#CLASS_SOURCE_CHECKSUM_ALGORITHM}
+ * (compare {@link ChecksumAlgorithm} for the supported values).
  * </p>
  */
 public class Source {
     private final URI uri;
     private final Optional<String> fileName;
-    private final Md5sum md5sum;
+    private final Md5sum checksum;
 
-    Source(URI uri, Optional<String> fileName, boolean md5InClassSourcesEnabled) {
+    Source(URI uri, Optional<String> fileName, Md5sum checksum) {
         this.uri = checkNotNull(uri);
         this.fileName = checkNotNull(fileName);
-        md5sum = md5InClassSourcesEnabled ? Md5sum.of(uri) : Md5sum.DISABLED;
+        this.checksum = checkNotNull(checksum);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -64,14 +62,27 @@ public class Source {
         return fileName;
     }
 
+    /**
+     * @return The checksum of the class file, computed by the configured {@link ChecksumAlgorithm}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Checksum getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * @deprecated Use {@link #getChecksum()} instead. The checksum is only an md5 sum, if the configured {@link ChecksumAlgorithm}
+     *             is {@link ChecksumAlgorithm#MD5 MD5} (the default).
+     */
+    @Deprecated
     @PublicAPI(usage = ACCESS)
     public Md5sum getMd5sum() {
-        return md5sum;
+        return checksum;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(uri, md5sum);
+        return Objects.hash(uri, checksum);
     }
 
     @Override
@@ -84,41 +95,26 @@ public class Source {
         }
         final Source other = (Source) obj;
         return Objects.equals(this.uri, other.uri)
-                && Objects.equals(this.md5sum, other.md5sum);
+                && Objects.equals(this.checksum, other.checksum);
     }
 
     @Override
     public String toString() {
-        return uri + " [md5='" + md5sum + "']";
+        return uri + " [md5='" + checksum + "']";
     }
 
-    public static class Md5sum {
-        /**
-         * We can't determine the md5 sum, because the platform is missing the digest algorithm
-         */
-        static final Md5sum NOT_SUPPORTED = new Md5sum("NOT_SUPPORTED");
-        /**
-         * We can't determine the md5 sum, due to an error while digesting the source
-         */
-        static final Md5sum UNDETERMINED = new Md5sum("UNDETERMINED");
-        /**
-         * The calculation of md5 sums is disabled via {@link ArchConfiguration}
-         */
-        static final Md5sum DISABLED = new Md5sum("DISABLED");
-
-        private static final MessageDigest MD5_DIGEST = getMd5Digest();
-
-        private final byte[] md5Bytes;
+    public static class Checksum {
+        private final byte[] checksumBytes;
         private final String text;
 
-        private Md5sum(String text) {
-            this.md5Bytes = new byte[0];
+        Checksum(String text) {
+            this.checksumBytes = new byte[0];
             this.text = text;
         }
 
-        private Md5sum(byte[] input, MessageDigest md5Digest) {
-            this.md5Bytes = md5Digest.digest(input);
-            text = toHex(md5Bytes);
+        Checksum(byte[] checksumBytes) {
+            this.checksumBytes = checksumBytes;
+            text = toHex(checksumBytes);
         }
 
         static String toHex(byte[] bytes) {
@@ -133,12 +129,12 @@ public class Source {
 
         @PublicAPI(usage = ACCESS)
         public byte[] asBytes() {
-            return Arrays.copyOf(md5Bytes, md5Bytes.length);
+            return Arrays.copyOf(checksumBytes, checksumBytes.length);
         }
 
         @Override
         public int hashCode() {
-            return Arrays.hashCode(md5Bytes) + 31 * text.hashCode();
+            return Arrays.hashCode(checksumBytes) + 31 * text.hashCode();
         }
 
         @Override
@@ -149,8 +145,8 @@ public class Source {
             if (obj == null || getClass() != obj.getClass()) {
                 return false;
             }
-            final Md5sum other = (Md5sum) obj;
-            return Arrays.equals(this.md5Bytes, other.md5Bytes)
+            final Checksum other = (Checksum) obj;
+            return Arrays.equals(this.checksumBytes, other.checksumBytes)
                     && Objects.equals(this.text, other.text);
         }
 
@@ -158,30 +154,32 @@ public class Source {
         public String toString() {
             return text;
         }
+    }
 
-        private static MessageDigest getMd5Digest() {
-            try {
-                return MessageDigest.getInstance("MD5");
-            } catch (NoSuchAlgorithmException e) {
-                return null;
-            }
-        }
+    /**
+     * A {@link Checksum}, which is only an md5 sum, if the configured {@link ChecksumAlgorithm}
+     * is {@link ChecksumAlgorithm#MD5 MD5} (the default). Kept for compatibility of {@link #getMd5sum()}.
+     */
+    public static class Md5sum extends Checksum {
+        /**
+         * We can't determine the checksum, because the platform is missing the digest algorithm
+         */
+        static final Md5sum NOT_SUPPORTED = new Md5sum("NOT_SUPPORTED");
+        /**
+         * The calculation of checksums is disabled via {@link ArchConfiguration}
+         */
+        static final Md5sum DISABLED = new Md5sum("DISABLED");
 
-        private static Md5sum of(URI uri) {
-            if (MD5_DIGEST == null) {
-                return NOT_SUPPORTED;
-            }
+        private Md5sum(String text) {
+            super(text);
+        }
 
-            Optional<byte[]> bytesFromUri = read(uri);
-            return bytesFromUri.isPresent() ? new Md5sum(bytesFromUri.get(), MD5_DIGEST) : UNDETERMINED;
+        private Md5sum(byte[] checksumBytes) {
+            super(checksumBytes);
         }
 
-        private static Optional<byte[]> read(URI uri) {
-            try (InputStream in = uri.toURL().openStream()) {
-                return Optional.of(ByteStreams.toByteArray(in));
-            } catch (IOException | RuntimeException e) {
-                return Optional.empty();
-            }
+        static Md5sum of(byte[] classFileBytes, ChecksumAlgorithm algorithm) {
+            return algorithm.checksumOf(classFileBytes).map(Md5sum::new).orElse(NOT_SUPPORTED);
         }
     }
 }
@@ -29,10 +29,7 @@ import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
 import static com.tngtech.archunit.core.domain.Formatters.ensureSimpleName;
-import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_NAME;
-import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_RAW_TYPE;
 
 public interface CanBeAnnotated {
 
@@ -128,8 +125,7 @@ public interface CanBeAnnotated {
          */
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> annotatedWith(final String annotationTypeName) {
-            DescribedPredicate<HasType> typeNameMatches = GET_RAW_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return annotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new AnnotatedWithTypeNamePredicate(annotationTypeName);
         }
 
         /**
@@ -142,6 +138,29 @@ public interface CanBeAnnotated {
             return new AnnotatedPredicate(predicate);
         }
 
+        /**
+         * Equivalent to {@link #annotatedWith(DescribedPredicate)} with a predicate on the annotation type name,
+         * but uses the direct lookup via {@link CanBeAnnotated#isAnnotatedWith(String)}.
+         */
+        private static class AnnotatedWithTypeNamePredicate extends DescribedPredicate<CanBeAnnotated> {
+            private final String annotationTypeName;
+
+            AnnotatedWithTypeNamePredicate(String annotationTypeName) {
+                super("annotated with @" + ensureSimpleName(annotationTypeName));
+                this.annotationTypeName = annotationTypeName;
+            }
+
+            @Override
+            public boolean test(CanBeAnnotated input) {
+                return input.isAnnotatedWith(annotationTypeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+        }
+
         private static class AnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> {
             private final DescribedPredicate<? super JavaAnnotation<?>> predicate;
 
@@ -154,6 +173,11 @@ public interface CanBeAnnotated {
             public boolean test(CanBeAnnotated input) {
                 return input.isAnnotatedWith(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
         }
 
         /**
@@ -178,8 +202,7 @@ public interface CanBeAnnotated {
          */
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> metaAnnotatedWith(final String annotationTypeName) {
-            DescribedPredicate<HasType> typeNameMatches = GET_RAW_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return metaAnnotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new MetaAnnotatedWithTypeNamePredicate(annotationTypeName);
         }
 
         /**
@@ -197,6 +220,25 @@ public interface CanBeAnnotated {
             return new MetaAnnotatedPredicate(predicate);
         }
 
+        private static class MetaAnnotatedWithTypeNamePredicate extends DescribedPredicate<CanBeAnnotated> {
+            private final String annotationTypeName;
+
+            MetaAnnotatedWithTypeNamePredicate(String annotationTypeName) {
+                super("meta-annotated with @" + ensureSimpleName(annotationTypeName));
+                this.annotationTypeName = annotationTypeName;
+            }
+
+            @Override
+            public boolean test(CanBeAnnotated input) {
+                return input.isMetaAnnotatedWith(annotationTypeName);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+        }
+
         private static class MetaAnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> {
             private final DescribedPredicate<? super JavaAnnotation<?>> predicate;
 
@@ -209,6 +251,11 @@ public interface CanBeAnnotated {
             public boolean test(CanBeAnnotated input) {
                 return input.isMetaAnnotatedWith(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
         }
     }
 
@@ -49,6 +49,11 @@ public interface HasModifiers {
             public boolean test(HasModifiers input) {
                 return input.getModifiers().contains(modifier);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
     }
 }
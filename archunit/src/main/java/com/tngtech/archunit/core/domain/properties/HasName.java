@@ -66,6 +66,11 @@ public interface HasName {
                 public boolean test(HasName.AndFullName input) {
                     return input.getFullName().equals(fullName);
                 }
+
+                @Override
+                public EvaluationCost getEvaluationCost() {
+                    return EvaluationCost.CHEAP;
+                }
             }
 
             private static class FullNameMatchingPredicate extends DescribedPredicate<HasName.AndFullName> {
@@ -80,6 +85,11 @@ public interface HasName {
                 public boolean test(HasName.AndFullName input) {
                     return pattern.matcher(input.getFullName()).matches();
                 }
+
+                @Override
+                public EvaluationCost getEvaluationCost() {
+                    return EvaluationCost.CHEAP;
+                }
             }
         }
 
@@ -141,6 +151,11 @@ public interface HasName {
             public boolean test(HasName input) {
                 return input.getName().equals(name);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class NameMatchingPredicate extends DescribedPredicate<HasName> {
@@ -155,6 +170,11 @@ public interface HasName {
             public boolean test(HasName input) {
                 return pattern.matcher(input.getName()).matches();
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class NameStartingWithPredicate extends DescribedPredicate<HasName> {
@@ -170,6 +190,10 @@ public interface HasName {
                 return input.getName().startsWith(prefix);
             }
 
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class NameContainingPredicate extends DescribedPredicate<HasName> {
@@ -184,6 +208,11 @@ public interface HasName {
             public boolean test(HasName input) {
                 return input.getName().contains(infix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class NameEndingWithPredicate extends DescribedPredicate<HasName> {
@@ -198,6 +227,11 @@ public interface HasName {
             public boolean test(HasName input) {
                 return input.getName().endsWith(suffix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
     }
 
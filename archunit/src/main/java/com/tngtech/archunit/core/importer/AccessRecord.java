@@ -137,7 +137,7 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public TARGET create(JavaClass targetOwner, TargetInfo target, ImportedClasses classes) {
-                Supplier<Optional<JavaConstructor>> memberSupplier = new ConstructorSupplier(targetOwner, target);
+                Supplier<Optional<JavaConstructor>> memberSupplier = new ConstructorSupplier(targetOwner, target, classes.getMemberResolutionCache());
                 List<JavaClass> paramTypes = getArgumentTypesFrom(target.desc, classes);
                 JavaClass returnType = classes.getOrResolve(void.class.getName());
                 return targetBuilderSupplier.get()
@@ -151,14 +151,20 @@ interface AccessRecord<TARGET extends AccessTarget> {
             private static class ConstructorSupplier implements Supplier<Optional<JavaConstructor>> {
                 private final JavaClass targetOwner;
                 private final TargetInfo target;
+                private final MemberResolutionCache cache;
 
-                ConstructorSupplier(JavaClass targetOwner, TargetInfo target) {
+                ConstructorSupplier(JavaClass targetOwner, TargetInfo target, MemberResolutionCache cache) {
                     this.targetOwner = targetOwner;
                     this.target = target;
+                    this.cache = cache;
                 }
 
                 @Override
                 public Optional<JavaConstructor> get() {
+                    return cache.getConstructor(target, this::searchTargetConstructor);
+                }
+
+                private Optional<JavaConstructor> searchTargetConstructor() {
                     for (JavaConstructor constructor : targetOwner.getConstructors()) {
                         if (constructor.getDescriptor().equals(target.desc)) {
                             return Optional.of(constructor);
@@ -178,7 +184,7 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public TARGET create(JavaClass targetOwner, TargetInfo target, ImportedClasses classes) {
-                Supplier<Optional<JavaMethod>> methodsSupplier = new MethodSupplier(targetOwner, target);
+                Supplier<Optional<JavaMethod>> methodsSupplier = new MethodSupplier(targetOwner, target, classes.getMemberResolutionCache());
                 List<JavaClass> parameters = getArgumentTypesFrom(target.desc, classes);
                 JavaClass returnType = classes.getOrResolve(JavaClassDescriptorImporter.importAsmMethodReturnType(target.desc).getFullyQualifiedClassName());
                 return targetBuilderSupplier.get()
@@ -193,15 +199,17 @@ interface AccessRecord<TARGET extends AccessTarget> {
             private static class MethodSupplier implements Supplier<Optional<JavaMethod>> {
                 private final JavaClass targetOwner;
                 private final TargetInfo target;
+                private final MemberResolutionCache cache;
 
-                MethodSupplier(JavaClass targetOwner, TargetInfo target) {
+                MethodSupplier(JavaClass targetOwner, TargetInfo target, MemberResolutionCache cache) {
                     this.targetOwner = targetOwner;
                     this.target = target;
+                    this.cache = cache;
                 }
 
                 @Override
                 public Optional<JavaMethod> get() {
-                    return searchTargetMethod(targetOwner, target);
+                    return cache.getMethod(target, () -> searchTargetMethod(targetOwner, target));
                 }
             }
         }
@@ -209,7 +217,7 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class FieldAccessTargetFactory implements AccessTargetFactory<FieldAccessTarget> {
             @Override
             public FieldAccessTarget create(JavaClass targetOwner, TargetInfo target, ImportedClasses classes) {
-                Supplier<Optional<JavaField>> fieldSupplier = new FieldSupplier(targetOwner, target);
+                Supplier<Optional<JavaField>> fieldSupplier = new FieldSupplier(targetOwner, target, classes.getMemberResolutionCache());
                 JavaClass fieldType = classes.getOrResolve(JavaClassDescriptorImporter.importAsmTypeFromDescriptor(target.desc).getFullyQualifiedClassName());
                 return new FieldAccessTargetBuilder()
                         .withOwner(targetOwner)
@@ -222,15 +230,17 @@ interface AccessRecord<TARGET extends AccessTarget> {
             private static class FieldSupplier implements Supplier<Optional<JavaField>> {
                 private final JavaClass targetOwner;
                 private final TargetInfo target;
+                private final MemberResolutionCache cache;
 
-                FieldSupplier(JavaClass targetOwner, TargetInfo target) {
+                FieldSupplier(JavaClass targetOwner, TargetInfo target, MemberResolutionCache cache) {
                     this.targetOwner = targetOwner;
                     this.target = target;
+                    this.cache = cache;
                 }
 
                 @Override
                 public Optional<JavaField> get() {
-                    return searchTargetField(targetOwner, target);
+                    return cache.getField(target, () -> searchTargetField(targetOwner, target));
                 }
             }
         }
@@ -38,6 +38,7 @@ import com.tngtech.archunit.core.importer.resolvers.ClassResolverFromClasspath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.Arrays.stream;
@@ -49,7 +50,9 @@ import static java.util.stream.Collectors.toSet;
  * Supports various types of {@link Location}, e.g. {@link Path},
  * {@link JarFile} or {@link URL}. The {@link Location Locations} that are scanned can be filtered by passing any number of
  * {@link ImportOption} to {@link #withImportOption(ImportOption)}, which will then be <b>AND</b>ed (compare
- * {@link ImportOptions}).
+ * {@link ImportOptions}). Beyond the {@link Location}, classes can be filtered by the header of their class file
+ * (e.g. the package or class annotations) via {@link #withClassHeaderFilter(ClassHeaderFilter)}, which avoids
+ * processing the members and code of excluded classes altogether.
  * <br><br>
  * Note that information about a class is only complete, if all necessary classes are imported.
  * For example, if class A is imported, and A accesses class B,
@@ -82,6 +85,8 @@ public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
     private final ImportOptions importOptions;
+    private final List<ClassHeaderFilter> classHeaderFilters;
+    private final ImportDetailLevel detailLevel;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
@@ -90,7 +95,13 @@ public final class ClassFileImporter {
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter(ImportOptions importOptions) {
+        this(importOptions, ImmutableList.of(), ImportDetailLevel.FULL);
+    }
+
+    private ClassFileImporter(ImportOptions importOptions, List<ClassHeaderFilter> classHeaderFilters, ImportDetailLevel detailLevel) {
         this.importOptions = importOptions;
+        this.classHeaderFilters = classHeaderFilters;
+        this.detailLevel = checkNotNull(detailLevel);
     }
 
     /**
@@ -102,7 +113,33 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), classHeaderFilters, detailLevel);
+    }
+
+    /**
+     * Allows filtering the classes to import by the header of their class file (compare {@link ClassHeaderFilter}).
+     * Multiple {@link ClassHeaderFilter ClassHeaderFilters} will be <b>AND</b>ed. Note that
+     * this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @param filter Defines which classes to import by their {@link ClassHeaderFilter.ClassHeader ClassHeader}
+     * @return A {@link ClassFileImporter} which only completely imports classes accepted by the specified filter
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withClassHeaderFilter(ClassHeaderFilter filter) {
+        return new ClassFileImporter(importOptions, ImmutableList.<ClassHeaderFilter>builder().addAll(classHeaderFilters).add(filter).build(), detailLevel);
+    }
+
+    /**
+     * Determines which details of the code of imported classes will be imported (compare {@link ImportDetailLevel}).
+     * By default, all details are imported. Note that
+     * this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @param detailLevel The {@link ImportDetailLevel} to use
+     * @return A {@link ClassFileImporter} which imports only the details contained in the given {@link ImportDetailLevel}
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withDetailLevel(ImportDetailLevel detailLevel) {
+        return new ClassFileImporter(importOptions, classHeaderFilters, detailLevel);
     }
 
     /**
@@ -249,7 +286,7 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importClasspath(ImportOptions options) {
-        return new ClassFileImporter(options).importLocations(Locations.inClassPath());
+        return new ClassFileImporter(options, classHeaderFilters, detailLevel).importLocations(Locations.inClassPath());
     }
 
     /**
@@ -320,7 +357,7 @@ public final class ClassFileImporter {
         for (Location location : locations) {
             tryAdd(sources, location);
         }
-        return new ClassFileProcessor().process(unify(sources));
+        return new ClassFileProcessor(classHeaderFilters, detailLevel).process(unify(sources));
     }
 
     private void tryAdd(List<ClassFileSource> sources, Location location) {
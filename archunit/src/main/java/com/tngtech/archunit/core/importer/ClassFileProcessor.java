@@ -18,15 +18,20 @@ package com.tngtech.archunit.core.importer;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.io.ByteStreams;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.ChecksumAlgorithm;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.domain.Source.Md5sum;
+import com.tngtech.archunit.core.importer.ClassHeaderFilter.ClassHeader;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassTypeParametersBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorBuilder;
@@ -46,6 +51,7 @@ import org.objectweb.asm.Label;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createChecksum;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
 import static org.objectweb.asm.Opcodes.ASM9;
 
@@ -54,25 +60,61 @@ class ClassFileProcessor {
 
     static final int ASM_API_VERSION = ASM9;
 
-    private final boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+    private final Optional<ChecksumAlgorithm> checksumAlgorithm = ArchConfiguration.get().md5InClassSourcesEnabled()
+            ? Optional.of(ChecksumAlgorithm.fromName(ArchConfiguration.get().getClassSourceChecksumAlgorithm()))
+            : Optional.empty();
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
+    private final List<ClassHeaderFilter> classHeaderFilters;
+    private final ImportDetailLevel detailLevel;
+
+    ClassFileProcessor(List<ClassHeaderFilter> classHeaderFilters, ImportDetailLevel detailLevel) {
+        this.classHeaderFilters = classHeaderFilters;
+        this.detailLevel = detailLevel;
+    }
 
     JavaClasses process(ClassFileSource source) {
         ClassFileImportRecord importRecord = new ClassFileImportRecord();
         DependencyResolutionProcess dependencyResolutionProcess = new DependencyResolutionProcess();
-        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess);
+        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess, detailLevel.includesTryCatchBlocks());
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord, dependencyResolutionProcess);
+        Set<String> excludedClassNames = new HashSet<>();
         for (ClassFileLocation location : source) {
             try (InputStream s = location.openStream()) {
-                JavaClassProcessor javaClassProcessor =
-                        new JavaClassProcessor(new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
+                byte[] classFileBytes = ByteStreams.toByteArray(s);
+                ClassReader classReader = new ClassReader(classFileBytes);
+                if (!includesHeaderOf(classReader, excludedClassNames)) {
+                    continue;
+                }
+                SourceDescriptor sourceDescriptor = new SourceDescriptor(location.getUri(), checksumOf(classFileBytes, checksumAlgorithm));
+                JavaClassProcessor javaClassProcessor = new JavaClassProcessor(sourceDescriptor, classDetailsRecorder, accessHandler);
+                classReader.accept(javaClassProcessor, detailLevel.getClassReaderParsingOptions());
                 javaClassProcessor.createJavaClass().ifPresent(importRecord::add);
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, dependencyResolutionProcess, getClassResolver(classDetailsRecorder)).complete();
+        return new ClassGraphCreator(importRecord, dependencyResolutionProcess, getClassResolver(classDetailsRecorder, excludedClassNames), detailLevel).complete();
+    }
+
+    /**
+     * We compute the checksum from the same bytes ASM parses, so we never need to read a class file a second time
+     */
+    private static Optional<Md5sum> checksumOf(byte[] classFileBytes, Optional<ChecksumAlgorithm> checksumAlgorithm) {
+        return checksumAlgorithm.map(algorithm -> createChecksum(classFileBytes, algorithm));
+    }
+
+    private boolean includesHeaderOf(ClassReader classReader, Set<String> excludedClassNames) {
+        if (classHeaderFilters.isEmpty()) {
+            return true;
+        }
+
+        ClassHeader header = ClassHeaderReader.read(classReader);
+        boolean included = classHeaderFilters.stream().allMatch(filter -> filter.includes(header));
+        if (!included) {
+            LOG.debug("Skipping class '{}', since it is excluded by its class header", header.getName());
+            excludedClassNames.add(header.getName());
+        }
+        return included;
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -205,13 +247,15 @@ class ClassFileProcessor {
 
         private final ClassFileImportRecord importRecord;
         private final DependencyResolutionProcess dependencyResolutionProcess;
+        private final boolean recordTryCatchBlocks;
         private CodeUnit codeUnit;
         private int lineNumber;
         private final TryCatchRecorder tryCatchRecorder = new TryCatchRecorder(this);
 
-        private RecordAccessHandler(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess) {
+        private RecordAccessHandler(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, boolean recordTryCatchBlocks) {
             this.importRecord = importRecord;
             this.dependencyResolutionProcess = dependencyResolutionProcess;
+            this.recordTryCatchBlocks = recordTryCatchBlocks;
         }
 
         @Override
@@ -222,12 +266,16 @@ class ClassFileProcessor {
         @Override
         public void onLineNumber(int lineNumber, Label label) {
             this.lineNumber = lineNumber;
-            tryCatchRecorder.onEncounteredLabel(label, lineNumber);
+            if (recordTryCatchBlocks) {
+                tryCatchRecorder.onEncounteredLabel(label, lineNumber);
+            }
         }
 
         @Override
         public void onLabel(Label label) {
-            tryCatchRecorder.onEncounteredLabel(label);
+            if (recordTryCatchBlocks) {
+                tryCatchRecorder.onEncounteredLabel(label);
+            }
         }
 
         @Override
@@ -239,7 +287,7 @@ class ClassFileProcessor {
                     .withAccessType(accessType)
                     .build();
             importRecord.registerFieldAccess(accessRecord);
-            tryCatchRecorder.registerAccess(accessRecord);
+            registerInTryCatchRecorder(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
 
@@ -253,7 +301,7 @@ class ClassFileProcessor {
             } else {
                 importRecord.registerMethodCall(accessRecord);
             }
-            tryCatchRecorder.registerAccess(accessRecord);
+            registerInTryCatchRecorder(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
 
@@ -267,7 +315,7 @@ class ClassFileProcessor {
             } else {
                 importRecord.registerMethodReference(accessRecord);
             }
-            tryCatchRecorder.registerAccess(accessRecord);
+            registerInTryCatchRecorder(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
 
@@ -280,18 +328,24 @@ class ClassFileProcessor {
         @Override
         public void handleTryCatchBlock(Label start, Label end, Label handler, JavaClassDescriptor throwableType) {
             LOG.trace("Found try/catch block between {} and {} for throwable {}", start, end, throwableType);
-            tryCatchRecorder.registerTryCatchBlock(start, end, handler, throwableType);
+            if (recordTryCatchBlocks) {
+                tryCatchRecorder.registerTryCatchBlock(start, end, handler, throwableType);
+            }
         }
 
         @Override
         public void handleTryFinallyBlock(Label start, Label end, Label handler) {
             LOG.trace("Found try/finally block between {} and {}", start, end);
-            tryCatchRecorder.registerTryFinallyBlock(start, end, handler);
+            if (recordTryCatchBlocks) {
+                tryCatchRecorder.registerTryFinallyBlock(start, end, handler);
+            }
         }
 
         @Override
         public void onMethodEnd() {
-            tryCatchRecorder.onEncounteredMethodEnd();
+            if (recordTryCatchBlocks) {
+                tryCatchRecorder.onEncounteredMethodEnd();
+            }
         }
 
         @Override
@@ -299,6 +353,12 @@ class ClassFileProcessor {
             importRecord.addTryCatchBlocks(codeUnit.getDeclaringClassName(), codeUnit.getName(), codeUnit.getDescriptor(), tryCatchBlocks);
         }
 
+        private void registerInTryCatchRecorder(RawAccessRecord accessRecord) {
+            if (recordTryCatchBlocks) {
+                tryCatchRecorder.registerAccess(accessRecord);
+            }
+        }
+
         private <BUILDER extends RawAccessRecord.BaseBuilder<BUILDER>> BUILDER filled(BUILDER builder, TargetInfo target) {
             return builder
                     .withCaller(codeUnit)
@@ -307,26 +367,43 @@ class ClassFileProcessor {
         }
     }
 
-    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
+    private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder, Set<String> excludedClassNames) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled));
+        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, excludedClassNames, checksumAlgorithm, detailLevel));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
-        private final boolean md5InClassSourcesEnabled;
+        private final Set<String> excludedClassNames;
+        private final Optional<ChecksumAlgorithm> checksumAlgorithm;
+        private final ImportDetailLevel detailLevel;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, Set<String> excludedClassNames,
+                Optional<ChecksumAlgorithm> checksumAlgorithm, ImportDetailLevel detailLevel) {
             this.declarationHandler = declarationHandler;
-            this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+            this.excludedClassNames = excludedClassNames;
+            this.checksumAlgorithm = checksumAlgorithm;
+            this.detailLevel = detailLevel;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
             try (InputStream inputStream = uri.toURL().openStream()) {
-                JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler);
-                new ClassReader(inputStream).accept(classProcessor, 0);
+                byte[] classFileBytes = ByteStreams.toByteArray(inputStream);
+                ClassReader classReader = new ClassReader(classFileBytes);
+                // classes excluded by a ClassHeaderFilter must stay stubs, even if they could be found on the classpath
+                if (excludedClassNames.contains(classReader.getClassName().replace("/", "."))) {
+                    return Optional.empty();
+                }
+                // classes might be resolved concurrently (compare ImportedClasses), so we only touch the shared declarationHandler
+                // once the class file has been parsed completely
+                RecordingDeclarationHandler recordedDeclarations = new RecordingDeclarationHandler(declarationHandler);
+                JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, checksumOf(classFileBytes, checksumAlgorithm)), recordedDeclarations);
+                classReader.accept(classProcessor, detailLevel.getClassReaderParsingOptions());
+                synchronized (declarationHandler) {
+                    recordedDeclarations.replayTo(declarationHandler);
+                }
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
@@ -27,6 +27,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.AccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
@@ -81,6 +82,8 @@ class ClassGraphCreator implements ImportContext {
 
     private final ClassFileImportRecord importRecord;
     private final DependencyResolutionProcess dependencyResolutionProcess;
+    private final ImportDetailLevel detailLevel;
+    private final boolean predicateResultMemoizationEnabled = ArchConfiguration.get().memoizePredicateResultsEnabled();
 
     private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
@@ -88,9 +91,11 @@ class ClassGraphCreator implements ImportContext {
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodReferenceTarget>> processedMethodReferenceRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<ConstructorReferenceTarget>> processedConstructorReferenceRecords = HashMultimap.create();
 
-    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver) {
+    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver,
+            ImportDetailLevel detailLevel) {
         this.importRecord = importRecord;
         this.dependencyResolutionProcess = dependencyResolutionProcess;
+        this.detailLevel = detailLevel;
         classes = new ImportedClasses(importRecord.getClasses(), classResolver, this::getMethodReturnType);
     }
 
@@ -336,6 +341,16 @@ class ClassGraphCreator implements ImportContext {
         return classes.getOrResolve(fullyQualifiedClassName);
     }
 
+    @Override
+    public ImportDetailLevel getImportDetailLevel() {
+        return detailLevel;
+    }
+
+    @Override
+    public boolean isPredicateResultMemoizationEnabled() {
+        return predicateResultMemoizationEnabled;
+    }
+
     private Optional<JavaClass> getMethodReturnType(String declaringClassName, String methodName) {
         for (JavaMethodBuilder methodBuilder : importRecord.getMethodBuildersFor(declaringClassName)) {
             if (methodBuilder.getName().equals(methodName) && methodBuilder.hasNoParameters()) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.PublicAPI;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * Will be evaluated for every class file that passed all {@link ImportOption ImportOptions}, after only the header
+ * of the class file (i.e. name, supertypes and class annotations) has been read. Only if the {@link ClassHeader}
+ * is accepted, the class file will be processed completely, including all members and code units.<br>
+ * This is thus considerably cheaper than importing all classes and filtering the resulting
+ * {@link com.tngtech.archunit.core.domain.JavaClasses JavaClasses}, if a lot of classes can be excluded this way.
+ * Classes that have been excluded will not be part of the import and will be treated as stubs, if they are
+ * a dependency of an imported class (i.e. they will also not be resolved from the classpath).<br><br>
+ * Like for {@link ImportOption}, the result of {@link #includes(ClassHeader)} must be constant for the same
+ * {@link ClassHeader} throughout the whole run of a test suite.
+ *
+ * @see ClassFileImporter#withClassHeaderFilter(ClassHeaderFilter)
+ */
+@PublicAPI(usage = INHERITANCE)
+public interface ClassHeaderFilter {
+    boolean includes(ClassHeader header);
+
+    /**
+     * The information about a class that can be read from the header of its class file, without processing
+     * any member or code unit. All types are only known by their fully qualified names at this point.
+     */
+    final class ClassHeader {
+        private final String name;
+        private final Optional<String> superclassName;
+        private final List<String> interfaceNames;
+        private final Set<String> annotationTypeNames;
+
+        ClassHeader(String name, Optional<String> superclassName, List<String> interfaceNames, Set<String> annotationTypeNames) {
+            this.name = checkNotNull(name);
+            this.superclassName = checkNotNull(superclassName);
+            this.interfaceNames = ImmutableList.copyOf(interfaceNames);
+            this.annotationTypeNames = ImmutableSet.copyOf(annotationTypeNames);
+        }
+
+        /**
+         * @return the fully qualified name of the class, e.g. {@code com.example.Outer$Inner}
+         */
+        @PublicAPI(usage = ACCESS)
+        public String getName() {
+            return name;
+        }
+
+        @PublicAPI(usage = ACCESS)
+        public String getPackageName() {
+            int lastDot = name.lastIndexOf('.');
+            return lastDot >= 0 ? name.substring(0, lastDot) : "";
+        }
+
+        /**
+         * @return the fully qualified name of the direct superclass, if any (interfaces have no superclass)
+         */
+        @PublicAPI(usage = ACCESS)
+        public Optional<String> getSuperclassName() {
+            return superclassName;
+        }
+
+        /**
+         * @return the fully qualified names of all directly implemented (or extended) interfaces in declaration order
+         */
+        @PublicAPI(usage = ACCESS)
+        public List<String> getInterfaceNames() {
+            return interfaceNames;
+        }
+
+        /**
+         * @return the fully qualified names of all annotations directly declared on the class,
+         *         no matter if they are retained at runtime or not
+         */
+        @PublicAPI(usage = ACCESS)
+        public Set<String> getAnnotationTypeNames() {
+            return annotationTypeNames;
+        }
+
+        @PublicAPI(usage = ACCESS)
+        public boolean isAnnotatedWith(String annotationTypeName) {
+            return annotationTypeNames.contains(annotationTypeName);
+        }
+
+        @PublicAPI(usage = ACCESS)
+        public boolean isAnnotatedWith(Class<? extends Annotation> annotationType) {
+            return isAnnotatedWith(annotationType.getName());
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{" + name + "}";
+        }
+    }
+}
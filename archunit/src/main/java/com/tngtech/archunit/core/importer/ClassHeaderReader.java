@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.tngtech.archunit.core.importer.ClassHeaderFilter.ClassHeader;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reads only the {@link ClassHeader} of a class file. Since no visitor is returned for annotation values,
+ * fields or methods and code is skipped completely, ASM only has to parse the constant pool and the attribute
+ * tables of the class file.
+ */
+class ClassHeaderReader extends ClassVisitor {
+    private static final int SKIP_ALL_DETAILS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    private String name;
+    private Optional<String> superclassName = Optional.empty();
+    private List<String> interfaceNames;
+    private final Set<String> annotationTypeNames = new HashSet<>();
+
+    private ClassHeaderReader() {
+        super(ASM_API_VERSION);
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.name = createTypeName(name);
+        // compare JavaClassProcessor, ASM reports java.lang.Object as superclass of interfaces
+        if (superName != null && (access & Opcodes.ACC_INTERFACE) == 0) {
+            superclassName = Optional.of(createTypeName(superName));
+        }
+        interfaceNames = stream(interfaces).map(ClassHeaderReader::createTypeName).collect(toList());
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+        annotationTypeNames.add(JavaClassDescriptorImporter.importAsmTypeFromDescriptor(descriptor).getFullyQualifiedClassName());
+        return null;
+    }
+
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        return null;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        return null;
+    }
+
+    private static String createTypeName(String asmTypeName) {
+        return asmTypeName.replace("/", ".");
+    }
+
+    static ClassHeader read(ClassReader classReader) {
+        ClassHeaderReader headerReader = new ClassHeaderReader();
+        classReader.accept(headerReader, SKIP_ALL_DETAILS);
+        return new ClassHeader(headerReader.name, headerReader.superclassName, headerReader.interfaceNames, headerReader.annotationTypeNames);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.SetMultimap;
+import com.tngtech.archunit.base.Suppliers;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Indexes which {@link Location locations} of the class path contain which directories, so looking up
+ * the locations containing a package or class file does not need to stream the entries of every location
+ * for every lookup. The index is built lazily on the first lookup and reused as long as the class path stays the same.<br>
+ * To keep the index small, we do not index the entries themselves. Instead, we only check the locations containing
+ * the parent directory of an entry for the entry itself.
+ */
+class ClassPathIndex {
+    private static final AtomicReference<ClassPathIndex> lastIndex = new AtomicReference<>();
+
+    private final List<String> classPathUrls;
+    private final Set<Location> locations;
+    private final Supplier<SetMultimap<String, Location>> locationsByDirectory = Suppliers.memoize(this::createIndex);
+
+    private ClassPathIndex(List<String> classPathUrls, Set<Location> locations) {
+        this.classPathUrls = classPathUrls;
+        this.locations = locations;
+    }
+
+    /**
+     * @return the locations containing an entry equal to {@code prefix} or an entry within the directory {@code prefix},
+     *         i.e. any entry {@code name} with {@code name.startsWith(prefix)}
+     */
+    Set<Location> getLocationsContainingEntriesWithPrefix(NormalizedResourceName prefix) {
+        String name = prefix.toString();
+        if (name.isEmpty()) {
+            // NormalizedResourceName#startsWith(NormalizedResourceName) does not consider the empty prefix an ancestor of any entry
+            return ImmutableSet.of();
+        }
+
+        SetMultimap<String, Location> locationsByDirectory = this.locationsByDirectory.get();
+        ImmutableSet.Builder<Location> result = ImmutableSet.<Location>builder().addAll(locationsByDirectory.get(name));
+        // prefix might also be an entry itself (e.g. a class file)
+        for (Location location : locationsByDirectory.get(parentOf(name))) {
+            if (location.containsEntry(prefix)) {
+                result.add(location);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Maps every directory to the locations containing it. Directories are associated with all their ancestors
+     * up to the empty root directory.
+     */
+    private SetMultimap<String, Location> createIndex() {
+        SetMultimap<String, Location> locationsByDirectory = HashMultimap.create();
+        for (Location location : locations) {
+            location.streamEntries().forEach(entry -> {
+                String directory = parentOf(entry.toString());
+                // if a directory is already associated with the location, so are all its ancestors
+                while (locationsByDirectory.put(directory, location) && !directory.isEmpty()) {
+                    directory = parentOf(directory);
+                }
+            });
+        }
+        return locationsByDirectory;
+    }
+
+    private static String parentOf(String resourceName) {
+        int lastSlash = resourceName.lastIndexOf('/');
+        return lastSlash >= 0 ? resourceName.substring(0, lastSlash) : "";
+    }
+
+    static ClassPathIndex of(Iterable<URL> classPath) {
+        List<URL> urls = ImmutableList.copyOf(classPath);
+        // we compare the external forms, since URL.equals(..) might resolve host names
+        List<String> classPathUrls = urls.stream().map(URL::toExternalForm).collect(toList());
+        ClassPathIndex index = lastIndex.get();
+        if (index != null && index.classPathUrls.equals(classPathUrls)) {
+            return index;
+        }
+        ClassPathIndex newIndex = new ClassPathIndex(classPathUrls, Locations.of(urls));
+        lastIndex.set(newIndex);
+        return newIndex;
+    }
+}
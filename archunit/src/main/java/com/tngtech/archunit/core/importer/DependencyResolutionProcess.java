@@ -21,7 +21,6 @@ import java.util.Properties;
 import java.util.Set;
 
 import com.tngtech.archunit.ArchConfiguration;
-import com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -141,11 +140,7 @@ class DependencyResolutionProcess {
         runNumber++;
         Set<String> typeNamesToResolve = this.currentTypeNames;
         currentTypeNames = new HashSet<>();
-        shouldContinue = false;
-        for (String typeName : typeNamesToResolve) {
-            ImportedClassState classState = classes.ensurePresent(typeName);
-            shouldContinue = shouldContinue || (classState == HAD_TO_BE_IMPORTED);
-        }
+        shouldContinue = classes.ensureAllPresent(typeNamesToResolve) == HAD_TO_BE_IMPORTED;
     }
 
     private boolean runNumberHasNotExceeded(int maxRuns) {
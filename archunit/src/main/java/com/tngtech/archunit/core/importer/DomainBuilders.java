@@ -499,7 +499,7 @@ public final class DomainBuilders {
         }
 
         public Optional<Source> getSource() {
-            return sourceDescriptor.map(value -> createSource(value.getUri(), sourceFileName, value.isMd5InClassSourcesEnabled()));
+            return sourceDescriptor.map(value -> createSource(value.getUri(), sourceFileName, value.getChecksum()));
         }
 
         public JavaClassDescriptor getDescriptor() {
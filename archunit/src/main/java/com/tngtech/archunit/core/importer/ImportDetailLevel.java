@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.PublicAPI;
+import org.objectweb.asm.ClassReader;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Determines how much information about the code of the imported classes the {@link ClassFileImporter} collects
+ * (compare {@link ClassFileImporter#withDetailLevel(ImportDetailLevel)}). The levels are declared in ascending order,
+ * i.e. each level contains all information of the previous levels.<br>
+ * Importing less details considerably reduces time and memory consumption of the import, e.g. for rules that only
+ * consider names, annotations, inheritance or member signatures. Requesting information from the imported classes
+ * that has not been imported will fail with an {@link IllegalStateException}, instead of silently
+ * returning incomplete results.
+ */
+public enum ImportDetailLevel {
+    /**
+     * Only imports class and member declarations, i.e. the bodies of methods, constructors and static initializers
+     * are skipped completely. Thus, there are no accesses, instanceof checks, referenced class objects or
+     * try-catch-blocks and {@link com.tngtech.archunit.core.domain.Dependency Dependencies} only consist of
+     * those derived from the declarations (e.g. supertypes, member types, annotations or throws clauses).<br>
+     * Note that line numbers are only contained in code unit bodies, so all
+     * {@link com.tngtech.archunit.core.domain.SourceCodeLocation SourceCodeLocations} (e.g. of classes or members)
+     * will report line number 0.
+     */
+    @PublicAPI(usage = ACCESS)
+    SIGNATURES_ONLY(ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES),
+    /**
+     * Additionally imports everything from code unit bodies that constitutes a
+     * {@link com.tngtech.archunit.core.domain.Dependency Dependency}, i.e. accesses,
+     * instanceof checks and referenced class objects, but no try-catch-blocks.
+     */
+    @PublicAPI(usage = ACCESS)
+    DEPENDENCIES(ClassReader.SKIP_FRAMES),
+    /**
+     * Imports all information ArchUnit supports. This is the default.
+     */
+    @PublicAPI(usage = ACCESS)
+    FULL(0);
+
+    private final int classReaderParsingOptions;
+
+    ImportDetailLevel(int classReaderParsingOptions) {
+        this.classReaderParsingOptions = classReaderParsingOptions;
+    }
+
+    int getClassReaderParsingOptions() {
+        return classReaderParsingOptions;
+    }
+
+    boolean includesTryCatchBlocks() {
+        return this == FULL;
+    }
+}
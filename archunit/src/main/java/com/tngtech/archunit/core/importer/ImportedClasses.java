@@ -17,8 +17,14 @@ package com.tngtech.archunit.core.importer;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -29,12 +35,18 @@ import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassBuilder;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolverFromClasspath;
+import com.tngtech.archunit.core.importer.resolvers.SelectedClassResolverFromClasspath;
 
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
 import static com.tngtech.archunit.core.domain.JavaModifier.ABSTRACT;
 import static com.tngtech.archunit.core.domain.JavaModifier.FINAL;
 import static com.tngtech.archunit.core.domain.JavaModifier.PUBLIC;
 import static com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState.HAD_TO_BE_IMPORTED;
 import static com.tngtech.archunit.core.importer.ImportedClasses.ImportedClassState.WAS_ALREADY_PRESENT;
+import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.toList;
 
 class ImportedClasses {
     private static final ImmutableSet<JavaModifier> PRIMITIVE_AND_ARRAY_TYPE_MODIFIERS =
@@ -44,6 +56,7 @@ class ImportedClasses {
     private final Map<String, JavaClass> allClasses = new HashMap<>();
     private final ClassResolver resolver;
     private final MethodReturnTypeGetter getMethodReturnType;
+    private final MemberResolutionCache memberResolutionCache = new MemberResolutionCache();
 
     ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver, MethodReturnTypeGetter methodReturnTypeGetter) {
         this.directlyImported = ImmutableMap.copyOf(directlyImported);
@@ -70,8 +83,87 @@ class ImportedClasses {
         return HAD_TO_BE_IMPORTED;
     }
 
+    /**
+     * Like {@link #ensurePresent(String)}, but resolves all missing types as one batch. If the configured {@link ClassResolver}
+     * is known to be thread safe, the class files of the batch are located and parsed in parallel, while all
+     * results are still added to this {@link ImportedClasses} sequentially in the order of {@code typeNames}.
+     *
+     * @return {@link ImportedClassState#HAD_TO_BE_IMPORTED HAD_TO_BE_IMPORTED} if any of the types had to be imported
+     */
+    ImportedClassState ensureAllPresent(Collection<String> typeNames) {
+        Map<Boolean, List<String>> missingTypeNamesByIsArray = typeNames.stream()
+                .filter(typeName -> !allClasses.containsKey(typeName))
+                .collect(partitioningBy(typeName -> JavaClassDescriptor.From.name(typeName).isArray()));
+        List<String> missingTypeNames = missingTypeNamesByIsArray.get(false);
+        List<String> missingArrayTypeNames = missingTypeNamesByIsArray.get(true);
+        if (missingTypeNames.isEmpty() && missingArrayTypeNames.isEmpty()) {
+            return WAS_ALREADY_PRESENT;
+        }
+
+        List<Optional<JavaClass>> resolved = tryResolveAll(missingTypeNames);
+        for (int i = 0; i < missingTypeNames.size(); i++) {
+            add(missingTypeNames.get(i), resolved.get(i));
+        }
+        // array types are resolved last, since resolving them also resolves their component types,
+        // which might have been part of this batch and must not be imported twice
+        missingArrayTypeNames.forEach(this::ensurePresent);
+        return HAD_TO_BE_IMPORTED;
+    }
+
+    private List<Optional<JavaClass>> tryResolveAll(List<String> typeNames) {
+        if (typeNames.size() < 2 || !supportsConcurrentResolution(resolver)) {
+            return typeNames.stream().map(resolver::tryResolve).collect(toList());
+        }
+
+        ExecutorService executor = newResolutionExecutor(Math.min(typeNames.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<Optional<JavaClass>>> futures = typeNames.stream()
+                    .map(typeName -> executor.submit(() -> resolver.tryResolve(typeName)))
+                    .collect(toList());
+            return futures.stream().map(ImportedClasses::getResolved).collect(toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * {@link ClassResolverFromClasspath} looks up class files via the context ClassLoader. Thus, instead of the common
+     * ForkJoinPool (whose threads might not even permit to change their context ClassLoader, e.g. under a SecurityManager),
+     * we use dedicated threads that are created with the context ClassLoader of the importing thread.
+     */
+    private static ExecutorService newResolutionExecutor(int numberOfThreads) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "archunit-class-resolver-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        });
+    }
+
+    private static Optional<JavaClass> getResolved(Future<Optional<JavaClass>> future) {
+        try {
+            return getUninterruptibly(future);
+        } catch (ExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Custom {@link ClassResolver ClassResolvers} are free to keep unsynchronized state,
+     * so we only resolve in parallel if we know the {@link ClassResolver} is thread safe.
+     */
+    private static boolean supportsConcurrentResolution(ClassResolver resolver) {
+        return resolver instanceof ClassResolverFromClasspath || resolver instanceof SelectedClassResolverFromClasspath;
+    }
+
     private JavaClass resolve(String typeName) {
-        Optional<JavaClass> resolved = resolver.tryResolve(typeName);
+        return add(typeName, resolver.tryResolve(typeName));
+    }
+
+    private JavaClass add(String typeName, Optional<JavaClass> resolved) {
         JavaClass javaClass = resolved.isPresent() ? resolved.get() : stubClassOf(typeName);
         if (javaClass.isArray()) {
             ensureAllComponentTypesPresent(javaClass);
@@ -105,6 +197,10 @@ class ImportedClasses {
         }
     }
 
+    MemberResolutionCache getMemberResolutionCache() {
+        return memberResolutionCache;
+    }
+
     public Optional<JavaClass> getMethodReturnType(String declaringClassName, String methodName) {
         return getMethodReturnType.getReturnType(declaringClassName, methodName);
     }
@@ -154,6 +154,14 @@ public abstract class Location {
 
     abstract Collection<NormalizedResourceName> readResourceEntries();
 
+    /**
+     * @return {@code true}, if {@link #streamEntries()} contains {@code entry}. Subclasses should check this
+     *         without reading all entries of this location, if possible.
+     */
+    boolean containsEntry(NormalizedResourceName entry) {
+        return streamEntries().anyMatch(entry::equals);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(uri);
@@ -301,6 +309,21 @@ public abstract class Location {
                     .replaceAll("!/.*", "")));
         }
 
+        @Override
+        boolean containsEntry(NormalizedResourceName entry) {
+            File file = getFileOfJar();
+            String name = entry.toString();
+            if (!file.exists() || !name.startsWith(uri.toString().replaceAll(".*!/", "")) || !name.endsWith(".class")) {
+                return false;
+            }
+
+            try (JarFile jarFile = new JarFile(file)) {
+                return jarFile.getEntry(name) != null;
+            } catch (IOException e) {
+                throw new LocationException(e);
+            }
+        }
+
         private Collection<NormalizedResourceName> readJarFileContent(File fileOfJar) {
             ImmutableList.Builder<NormalizedResourceName> result = ImmutableList.builder();
             String prefix = uri.toString().replaceAll(".*!/", "");
@@ -365,6 +388,12 @@ public abstract class Location {
             }
         }
 
+        @Override
+        boolean containsEntry(NormalizedResourceName entry) {
+            String name = entry.toString();
+            return name.endsWith(".class") && Files.isRegularFile(Paths.get(uri.toURI()).resolve(name));
+        }
+
         private List<NormalizedResourceName> getAllFilesBeneath(NormalizedUri uri) throws IOException {
             File rootFile = new File(uri.toURI());
             if (!rootFile.exists()) {
@@ -124,10 +124,8 @@ public final class Locations {
      */
     private static Collection<Location> getResourceLocations(ClassLoader loader, NormalizedResourceName resourceName, Iterable<URL> classpath) {
         Set<Location> result = newHashSet(Locations.of(getResources(loader, resourceName)));
-        for (Location location : Locations.of(classpath)) {
-            if (containsEntryWithPrefix(location, resourceName)) {
-                result.add(location.append(resourceName.toString()));
-            }
+        for (Location location : ClassPathIndex.of(classpath).getLocationsContainingEntriesWithPrefix(resourceName)) {
+            result.add(location.append(resourceName.toString()));
         }
         return result;
     }
@@ -139,8 +137,4 @@ public final class Locations {
             throw new LocationException(e);
         }
     }
-
-    private static boolean containsEntryWithPrefix(Location location, NormalizedResourceName searchedJarEntryPrefix) {
-        return location.streamEntries().anyMatch(name -> name.startsWith(searchedJarEntryPrefix));
-    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.core.domain.JavaConstructor;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+
+/**
+ * Memoizes the resolved member of each access target per import. The same target (e.g. {@code List.add(Object)})
+ * is usually accessed from many places, but only needs to be searched in the class hierarchy once.
+ * Since the owner of a {@link TargetInfo} is unique by name within one import, {@link TargetInfo} can serve as key directly.
+ */
+class MemberResolutionCache {
+    private final ConcurrentMap<TargetInfo, Optional<JavaField>> fields = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TargetInfo, Optional<JavaMethod>> methods = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TargetInfo, Optional<JavaConstructor>> constructors = new ConcurrentHashMap<>();
+
+    Optional<JavaField> getField(TargetInfo target, Supplier<Optional<JavaField>> resolve) {
+        return getOrResolve(fields, target, resolve);
+    }
+
+    Optional<JavaMethod> getMethod(TargetInfo target, Supplier<Optional<JavaMethod>> resolve) {
+        return getOrResolve(methods, target, resolve);
+    }
+
+    Optional<JavaConstructor> getConstructor(TargetInfo target, Supplier<Optional<JavaConstructor>> resolve) {
+        return getOrResolve(constructors, target, resolve);
+    }
+
+    // we deliberately do not use computeIfAbsent(..) to not block other resolutions while searching the hierarchy,
+    // resolving the same member twice concurrently is harmless since the result is always the same
+    private static <MEMBER> Optional<MEMBER> getOrResolve(ConcurrentMap<TargetInfo, Optional<MEMBER>> cache, TargetInfo target, Supplier<Optional<MEMBER>> resolve) {
+        Optional<MEMBER> cached = cache.get(target);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<MEMBER> resolved = resolve.get();
+        Optional<MEMBER> existing = cache.putIfAbsent(target, resolved);
+        return existing != null ? existing : resolved;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+
+/**
+ * Records all declarations of one class file, so the class file can be parsed without touching the
+ * (not thread safe) target {@link DeclarationHandler}. The declarations are then applied in their original order
+ * by {@link #replayTo(DeclarationHandler)}, which the caller must synchronize on the target handler.
+ */
+class RecordingDeclarationHandler implements DeclarationHandler {
+    private final DeclarationHandler target;
+    private final List<Consumer<DeclarationHandler>> declarations = new ArrayList<>();
+
+    RecordingDeclarationHandler(DeclarationHandler target) {
+        this.target = target;
+    }
+
+    void replayTo(DeclarationHandler handler) {
+        declarations.forEach(declaration -> declaration.accept(handler));
+    }
+
+    @Override
+    public boolean isNew(String className) {
+        synchronized (target) {
+            return target.isNew(className);
+        }
+    }
+
+    @Override
+    public void onNewClass(String className, Optional<String> superclassName, List<String> interfaceNames) {
+        declarations.add(handler -> handler.onNewClass(className, superclassName, interfaceNames));
+    }
+
+    @Override
+    public void onDeclaredTypeParameters(DomainBuilders.JavaClassTypeParametersBuilder typeParametersBuilder) {
+        declarations.add(handler -> handler.onDeclaredTypeParameters(typeParametersBuilder));
+    }
+
+    @Override
+    public void onGenericSuperclass(DomainBuilders.JavaParameterizedTypeBuilder<JavaClass> genericSuperclassBuilder) {
+        declarations.add(handler -> handler.onGenericSuperclass(genericSuperclassBuilder));
+    }
+
+    @Override
+    public void onGenericInterfaces(List<DomainBuilders.JavaParameterizedTypeBuilder<JavaClass>> genericInterfaceBuilders) {
+        declarations.add(handler -> handler.onGenericInterfaces(genericInterfaceBuilders));
+    }
+
+    @Override
+    public void onDeclaredField(DomainBuilders.JavaFieldBuilder fieldBuilder, String fieldTypeName) {
+        declarations.add(handler -> handler.onDeclaredField(fieldBuilder, fieldTypeName));
+    }
+
+    @Override
+    public void onDeclaredConstructor(DomainBuilders.JavaConstructorBuilder constructorBuilder, Collection<String> rawParameterTypeNames) {
+        declarations.add(handler -> handler.onDeclaredConstructor(constructorBuilder, rawParameterTypeNames));
+    }
+
+    @Override
+    public void onDeclaredMethod(DomainBuilders.JavaMethodBuilder methodBuilder, Collection<String> rawParameterTypeNames, String rawReturnTypeName) {
+        declarations.add(handler -> handler.onDeclaredMethod(methodBuilder, rawParameterTypeNames, rawReturnTypeName));
+    }
+
+    @Override
+    public void onDeclaredStaticInitializer(DomainBuilders.JavaStaticInitializerBuilder staticInitializerBuilder) {
+        declarations.add(handler -> handler.onDeclaredStaticInitializer(staticInitializerBuilder));
+    }
+
+    @Override
+    public void onDeclaredClassAnnotations(Set<DomainBuilders.JavaAnnotationBuilder> annotationBuilders) {
+        declarations.add(handler -> handler.onDeclaredClassAnnotations(annotationBuilders));
+    }
+
+    @Override
+    public void onDeclaredMemberAnnotations(String memberName, String descriptor, Set<DomainBuilders.JavaAnnotationBuilder> annotations) {
+        declarations.add(handler -> handler.onDeclaredMemberAnnotations(memberName, descriptor, annotations));
+    }
+
+    @Override
+    public void onDeclaredAnnotationValueType(String valueTypeName) {
+        declarations.add(handler -> handler.onDeclaredAnnotationValueType(valueTypeName));
+    }
+
+    @Override
+    public void onDeclaredAnnotationDefaultValue(String methodName, String methodDescriptor, DomainBuilders.JavaAnnotationBuilder.ValueBuilder valueBuilder) {
+        declarations.add(handler -> handler.onDeclaredAnnotationDefaultValue(methodName, methodDescriptor, valueBuilder));
+    }
+
+    @Override
+    public void registerEnclosingClass(String ownerName, String enclosingClassName) {
+        declarations.add(handler -> handler.registerEnclosingClass(ownerName, enclosingClassName));
+    }
+
+    @Override
+    public void registerEnclosingCodeUnit(String ownerName, RawAccessRecord.CodeUnit enclosingCodeUnit) {
+        declarations.add(handler -> handler.registerEnclosingCodeUnit(ownerName, enclosingCodeUnit));
+    }
+
+    @Override
+    public void onDeclaredClassObject(String typeName) {
+        declarations.add(handler -> handler.onDeclaredClassObject(typeName));
+    }
+
+    @Override
+    public void onDeclaredInstanceofCheck(String typeName) {
+        declarations.add(handler -> handler.onDeclaredInstanceofCheck(typeName));
+    }
+
+    @Override
+    public void onDeclaredThrowsClause(Collection<String> exceptionTypeNames) {
+        declarations.add(handler -> handler.onDeclaredThrowsClause(exceptionTypeNames));
+    }
+
+    @Override
+    public void onDeclaredGenericSignatureType(String typeName) {
+        declarations.add(handler -> handler.onDeclaredGenericSignatureType(typeName));
+    }
+}
@@ -16,21 +16,28 @@
 package com.tngtech.archunit.core.importer;
 
 import java.net.URI;
+import java.util.Optional;
+
+import com.tngtech.archunit.core.domain.Source.Md5sum;
 
 class SourceDescriptor {
     private final URI sourceUri;
-    private final boolean md5InClassSourcesEnabled;
+    private final Optional<Md5sum> checksum;
 
-    SourceDescriptor(URI sourceUri, boolean md5InClassSourcesEnabled) {
+    /**
+     * @param checksum the checksum of the class file, computed from the bytes the class has been imported from,
+     *                 or {@link Optional#empty()} if checksums are disabled
+     */
+    SourceDescriptor(URI sourceUri, Optional<Md5sum> checksum) {
         this.sourceUri = sourceUri;
-        this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+        this.checksum = checksum;
     }
 
     URI getUri() {
         return sourceUri;
     }
 
-    boolean isMd5InClassSourcesEnabled() {
-        return md5InClassSourcesEnabled;
+    Optional<Md5sum> getChecksum() {
+        return checksum;
     }
 }
@@ -57,6 +57,20 @@ public interface ConditionEvents {
      */
     boolean containViolation();
 
+    /**
+     * Satisfied {@link ConditionEvent events} are only relevant if they might still be turned into violations later,
+     * e.g. by {@link com.tngtech.archunit.lang.conditions.ArchConditions#never(ArchCondition) never(..)}.
+     * If these events simply discard them, an {@link ArchCondition} can skip creating satisfied events
+     * (and their descriptions) altogether, which avoids a lot of allocations for rules that are mostly satisfied.
+     *
+     * @return {@code true}, if satisfied {@link ConditionEvent events} added to these events might still be relevant,
+     *         {@code false}, if only {@link #getViolating() violating} events are of interest
+     */
+    @PublicAPI(usage = ACCESS)
+    default boolean isTrackingSatisfiedEvents() {
+        return true;
+    }
+
     @PublicAPI(usage = ACCESS)
     final class Factory {
         private Factory() {
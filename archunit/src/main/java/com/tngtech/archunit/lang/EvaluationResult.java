@@ -82,6 +82,31 @@ public final class EvaluationResult {
         return new FailureReport(rule, priority, failureMessages);
     }
 
+    /**
+     * Writes the violations of this result in a machine-readable format, i.e. as
+     * <a href="https://jsonlines.org/">JSON Lines</a> with one record per object corresponding to a violation
+     * (compare {@link ConditionEvent#handleWith(ConditionEvent.Handler)}), e.g.
+     * <pre><code>
+     * {"rule":"no classes should ...","priority":"MEDIUM","origin":"com.foo.Foo","target":"com.bar.Bar","type":"calls","sourceFile":"Foo.java","line":12,"message":"Method &lt;com.foo.Foo.call()&gt; calls ..."}
+     * </code></pre>
+     * Each record contains the fields {@code rule}, {@code priority} and {@code message}. Records for
+     * {@link com.tngtech.archunit.core.domain.Dependency dependencies} and {@link com.tngtech.archunit.core.domain.JavaAccess accesses}
+     * additionally contain {@code origin}, {@code target} and {@code type}, and all records for objects with a source code location
+     * contain {@code sourceFile} and {@code line}.<br>
+     * The records are written incrementally, so the violations can be streamed e.g. to a file without keeping
+     * any textual representation of all violations in memory.
+     *
+     * @param target Where to write the records to
+     * @throws java.io.UncheckedIOException if writing to {@code target} fails
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public void writeViolationsAsJsonLines(Appendable target) {
+        JsonLinesViolationWriter writer = new JsonLinesViolationWriter(rule, priority, target);
+        for (ConditionEvent event : violations) {
+            event.handleWith(writer);
+        }
+    }
+
     @PublicAPI(usage = ACCESS)
     public void add(EvaluationResult part) {
         violations.addAll(part.violations);
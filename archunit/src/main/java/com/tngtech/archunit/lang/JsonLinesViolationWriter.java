@@ -0,0 +1,139 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.SourceCodeLocation;
+import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
+
+import static com.tngtech.archunit.core.domain.DependencyTypes.typeOf;
+
+/**
+ * Writes one JSON object per line for each object corresponding to a violation (compare {@link ConditionEvent#handleWith(ConditionEvent.Handler)}),
+ * so tooling can process the violations of a rule without parsing the rendered failure report. Records are written
+ * directly to the target while iterating over the violations, i.e. no further representation of all violations is created.
+ * <br><br>
+ * Each record contains the fields {@code rule}, {@code priority} and {@code message}, and depending on the corresponding object
+ * also {@code origin} and {@code target} (fully qualified class names), {@code type} (the type of the dependency, e.g. {@code "calls"},
+ * compare {@link com.tngtech.archunit.core.domain.DependencyTypes})
+ * as well as {@code sourceFile} and {@code line}.
+ */
+class JsonLinesViolationWriter implements ConditionEvent.Handler {
+    private final String rule;
+    private final Priority priority;
+    private final Appendable target;
+
+    JsonLinesViolationWriter(HasDescription rule, Priority priority, Appendable target) {
+        this.rule = rule.getDescription();
+        this.priority = priority;
+        this.target = target;
+    }
+
+    @Override
+    public void handle(Collection<?> correspondingObjects, String message) {
+        try {
+            if (correspondingObjects.isEmpty()) {
+                writeRecord(null, message);
+            }
+            for (Object correspondingObject : correspondingObjects) {
+                writeRecord(correspondingObject, message);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRecord(Object correspondingObject, String message) throws IOException {
+        target.append('{');
+        appendField("rule", rule);
+        target.append(',');
+        appendField("priority", priority.asString());
+        if (correspondingObject instanceof Dependency) {
+            Dependency dependency = (Dependency) correspondingObject;
+            appendOriginAndTarget(dependency.getOriginClass().getName(), dependency.getTargetClass().getName(), typeOf(dependency));
+        } else if (correspondingObject instanceof JavaAccess<?>) {
+            JavaAccess<?> access = (JavaAccess<?>) correspondingObject;
+            appendOriginAndTarget(access.getOriginOwner().getName(), access.getTargetOwner().getName(), typeOf(access));
+        }
+        if (correspondingObject instanceof HasSourceCodeLocation) {
+            appendSourceCodeLocation(((HasSourceCodeLocation) correspondingObject).getSourceCodeLocation());
+        }
+        target.append(',');
+        appendField("message", message);
+        target.append("}\n");
+    }
+
+    private void appendOriginAndTarget(String origin, String target, String type) throws IOException {
+        this.target.append(',');
+        appendField("origin", origin);
+        this.target.append(',');
+        appendField("target", target);
+        this.target.append(',');
+        appendField("type", type);
+    }
+
+    private void appendSourceCodeLocation(SourceCodeLocation sourceCodeLocation) throws IOException {
+        target.append(',');
+        appendField("sourceFile", sourceCodeLocation.getSourceFileName());
+        target.append(',').append("\"line\":").append(String.valueOf(sourceCodeLocation.getLineNumber()));
+    }
+
+    private void appendField(String name, String value) throws IOException {
+        target.append('"').append(name).append("\":");
+        if (value == null) {
+            target.append("null");
+        } else {
+            appendString(value);
+        }
+    }
+
+    private void appendString(String value) throws IOException {
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    target.append("\\\"");
+                    break;
+                case '\\':
+                    target.append("\\\\");
+                    break;
+                case '\n':
+                    target.append("\\n");
+                    break;
+                case '\r':
+                    target.append("\\r");
+                    break;
+                case '\t':
+                    target.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        target.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        target.append(c);
+                    }
+            }
+        }
+        target.append('"');
+    }
+}
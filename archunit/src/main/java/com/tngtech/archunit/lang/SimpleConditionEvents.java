@@ -56,6 +56,11 @@ final class SimpleConditionEvents implements ConditionEvents {
         return !violations.isEmpty();
     }
 
+    @Override
+    public boolean isTrackingSatisfiedEvents() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" + violations + '}';
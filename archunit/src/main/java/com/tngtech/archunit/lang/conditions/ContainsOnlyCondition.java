@@ -34,7 +34,8 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
 
     @Override
     public void check(Collection<? extends T> collection, ConditionEvents events) {
-        ViolatedAndSatisfiedConditionEvents subEvents = new ViolatedAndSatisfiedConditionEvents();
+        // the satisfied sub events are only needed to invert the resulting event
+        ViolatedAndSatisfiedConditionEvents subEvents = new ViolatedAndSatisfiedConditionEvents(events.isTrackingSatisfiedEvents());
         for (T item : collection) {
             condition.check(item, subEvents);
         }
@@ -47,4 +47,9 @@ abstract class DelegatingConditionEvents implements ConditionEvents {
     public boolean containViolation() {
         return delegate.containViolation();
     }
+
+    @Override
+    public boolean isTrackingSatisfiedEvents() {
+        return delegate.isTrackingSatisfiedEvents();
+    }
 }
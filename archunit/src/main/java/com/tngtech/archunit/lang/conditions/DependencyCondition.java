@@ -31,6 +31,9 @@ class DependencyCondition extends ArchCondition<Dependency> {
 
     @Override
     public void check(Dependency item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, conditionPredicate.test(item), item.getDescription()));
+        boolean satisfied = conditionPredicate.test(item);
+        if (!satisfied || events.isTrackingSatisfiedEvents()) {
+            events.add(new SimpleConditionEvent(item, satisfied, item.getDescription()));
+        }
     }
 }
@@ -36,7 +36,10 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
 
     @Override
     public void check(JavaFieldAccess item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.test(item), item.getDescription()));
+        boolean satisfied = fieldAccessIdentifier.test(item);
+        if (!satisfied || events.isTrackingSatisfiedEvents()) {
+            events.add(new SimpleConditionEvent(item, satisfied, item.getDescription()));
+        }
     }
 
     static class FieldGetAccessCondition extends FieldAccessCondition {
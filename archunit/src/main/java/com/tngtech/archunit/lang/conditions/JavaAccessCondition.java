@@ -31,6 +31,9 @@ class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
 
     @Override
     public void check(T item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, predicate.test(item), item.getDescription()));
+        boolean satisfied = predicate.test(item);
+        if (!satisfied || events.isTrackingSatisfiedEvents()) {
+            events.add(new SimpleConditionEvent(item, satisfied, item.getDescription()));
+        }
     }
 }
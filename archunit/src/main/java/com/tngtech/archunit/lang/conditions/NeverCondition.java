@@ -58,5 +58,11 @@ class NeverCondition<T> extends ArchCondition<T> {
         public void add(ConditionEvent event) {
             delegate.add(event.invert());
         }
+
+        // satisfied events of the original condition are exactly the ones that become violations
+        @Override
+        public boolean isTrackingSatisfiedEvents() {
+            return true;
+        }
     }
 }
@@ -28,18 +28,29 @@ import com.tngtech.archunit.lang.ConditionEvents;
  * A version of {@link ConditionEvents} that tracks both violated and satisfied {@link ConditionEvent events},
  * so specific {@link ArchCondition ArchConditions} can use them to create composite events.<br>
  * E.g. {@link ContainAnyCondition} needs to track satisfied events to be able to invert the event
- * if it is used in the context of {@link NeverCondition}.
+ * if it is used in the context of {@link NeverCondition}.<br>
+ * If the events the composite event will be added to do not {@link ConditionEvents#isTrackingSatisfiedEvents() track satisfied events}
+ * themselves, satisfied events can be discarded right away, compare {@link #ViolatedAndSatisfiedConditionEvents(boolean)}.
  */
 final class ViolatedAndSatisfiedConditionEvents implements ConditionEvents {
+    private final boolean trackingSatisfiedEvents;
     private final List<ConditionEvent> allowedEvents = new ArrayList<>();
     private final List<ConditionEvent> violatingEvents = new ArrayList<>();
     private Optional<String> informationAboutNumberOfViolations = Optional.empty();
 
+    ViolatedAndSatisfiedConditionEvents() {
+        this(true);
+    }
+
+    ViolatedAndSatisfiedConditionEvents(boolean trackingSatisfiedEvents) {
+        this.trackingSatisfiedEvents = trackingSatisfiedEvents;
+    }
+
     @Override
     public void add(ConditionEvent event) {
         if (event.isViolation()) {
             violatingEvents.add(event);
-        } else {
+        } else if (trackingSatisfiedEvents) {
             allowedEvents.add(event);
         }
     }
@@ -68,6 +79,11 @@ final class ViolatedAndSatisfiedConditionEvents implements ConditionEvents {
         return !getViolating().isEmpty();
     }
 
+    @Override
+    public boolean isTrackingSatisfiedEvents() {
+        return trackingSatisfiedEvents;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
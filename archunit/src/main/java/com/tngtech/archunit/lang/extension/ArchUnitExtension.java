@@ -37,6 +37,14 @@ import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
  * For further details, check the documentation of {@link ServiceLoader}.<br>
  * Whenever a rule is evaluated, ArchUnit will dispatch the result to all extensions configured this way,
  * before reacting to the result (e.g. by failing the test, if violations exist).
+ * <br><br>
+ * Extensions doing expensive work (like uploading results) can be configured with
+ * <pre><code>extension.${extension-id}.async=true</code></pre>
+ * Then ArchUnit dispatches the results on a separate thread (one per extension, preserving the order of the results)
+ * and does not wait for the extension. At most {@code async.queueCapacity} (default 1000) results are pending at any time,
+ * further results are dropped with a warning. Pending results are handled once the ArchUnit JUnit 5 engine has executed all tests
+ * and at the latest before the JVM shuts down, waiting at most {@code async.flushTimeoutMillis} (default 30000).
+ * At that point the numbers of handled, failed and dropped results are logged.
  */
 @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
 public interface ArchUnitExtension {
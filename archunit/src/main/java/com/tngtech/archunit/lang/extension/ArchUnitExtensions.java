@@ -16,6 +16,10 @@
 package com.tngtech.archunit.lang.extension;
 
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
@@ -27,8 +31,13 @@ public class ArchUnitExtensions {
     private static final Logger LOG = LoggerFactory.getLogger(ArchUnitExtensions.class);
 
     private static final String ENABLED_PROPERTY = "enabled";
+    private static final String ASYNC_PROPERTY = "async";
+
+    private static final Set<ArchUnitExtensions> instancesWithAsyncDispatchers = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean flushAllOnShutdownRegistered = new AtomicBoolean();
 
     private final ArchUnitExtensionLoader extensionLoader;
+    private final ConcurrentMap<String, AsyncExtensionDispatcher> asyncDispatchers = new ConcurrentHashMap<>();
 
     public ArchUnitExtensions() {
         this(new ArchUnitExtensionLoader());
@@ -48,7 +57,9 @@ public class ArchUnitExtensions {
     private void dispatch(EvaluatedRule evaluatedRule, ArchUnitExtension extension) {
         ArchConfiguration configuration = ArchConfiguration.get();
         Properties extensionProperties = configuration.getExtensionProperties(extension.getUniqueIdentifier());
-        if (isEnabled(extensionProperties)) {
+        if (isEnabled(extensionProperties) && isAsync(extensionProperties)) {
+            getAsyncDispatcher(extension, extensionProperties).dispatch(extensionProperties, evaluatedRule);
+        } else if (isEnabled(extensionProperties)) {
             configureAndDispatch(extension, extensionProperties, evaluatedRule);
         } else if (LOG.isDebugEnabled()) {
             LOG.debug("Extension '{}' is disabled, skipping... (to enable this extension, configure extension.{}.{}=true)",
@@ -60,12 +71,60 @@ public class ArchUnitExtensions {
         return Boolean.valueOf(extensionProperties.getProperty(ENABLED_PROPERTY, "false"));
     }
 
-    private void configureAndDispatch(ArchUnitExtension extension, Properties extensionProperties, EvaluatedRule evaluatedRule) {
+    private boolean isAsync(Properties extensionProperties) {
+        return Boolean.parseBoolean(extensionProperties.getProperty(ASYNC_PROPERTY, "false"));
+    }
+
+    private AsyncExtensionDispatcher getAsyncDispatcher(ArchUnitExtension extension, Properties extensionProperties) {
+        AsyncExtensionDispatcher dispatcher = asyncDispatchers.computeIfAbsent(extension.getUniqueIdentifier(),
+                identifier -> new AsyncExtensionDispatcher(extension, extensionProperties, this::configureAndDispatch));
+        // registered after the dispatcher has been created, so a concurrent flush() can never leave behind an unregistered dispatcher
+        instancesWithAsyncDispatchers.add(this);
+        if (flushAllOnShutdownRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ArchUnitExtensions::flushAll, "archunit-extension-flush"));
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Waits until all extensions configured with {@code async=true} have handled all pending rules, no matter which
+     * {@link ArchUnitExtensions} dispatched them. This is done automatically when the JVM shuts down,
+     * but test engines should call it explicitly, once all rules have been evaluated.
+     */
+    public static void flushAll() {
+        for (ArchUnitExtensions extensions : instancesWithAsyncDispatchers) {
+            extensions.flush();
+        }
+    }
+
+    /**
+     * Waits until all extensions configured with {@code async=true} have handled all pending rules dispatched by this instance.
+     *
+     * @see #flushAll()
+     */
+    public void flush() {
+        instancesWithAsyncDispatchers.remove(this);
+        for (String extensionIdentifier : asyncDispatchers.keySet()) {
+            AsyncExtensionDispatcher dispatcher = asyncDispatchers.remove(extensionIdentifier);
+            if (dispatcher != null) {
+                dispatcher.flush();
+            }
+        }
+    }
+
+    // Used for testing
+    AsyncExtensionDispatcher getAsyncDispatcher(String extensionIdentifier) {
+        return asyncDispatchers.get(extensionIdentifier);
+    }
+
+    private boolean configureAndDispatch(ArchUnitExtension extension, Properties extensionProperties, EvaluatedRule evaluatedRule) {
         try {
             extension.configure(extensionProperties);
             extension.handle(evaluatedRule);
+            return true;
         } catch (RuntimeException e) {
             LOG.warn(String.format("Error in extension '%s'", extension.getUniqueIdentifier()), e);
+            return false;
         }
     }
 }
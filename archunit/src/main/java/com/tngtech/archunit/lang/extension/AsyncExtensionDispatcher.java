@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.extension;
+
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches {@link EvaluatedRule}s to one {@link ArchUnitExtension} on a single background thread, so rule evaluation
+ * never waits for the extension. Using exactly one thread preserves the order of the rules and spares extensions
+ * from being thread safe. The queue of pending rules is bounded: if the extension cannot keep up,
+ * further rules are dropped (and counted) instead of blocking the evaluating thread.
+ */
+class AsyncExtensionDispatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncExtensionDispatcher.class);
+
+    static final String QUEUE_CAPACITY_PROPERTY = "async.queueCapacity";
+    static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    static final String FLUSH_TIMEOUT_MILLIS_PROPERTY = "async.flushTimeoutMillis";
+    static final long DEFAULT_FLUSH_TIMEOUT_MILLIS = 30_000;
+
+    private final ArchUnitExtension extension;
+    private final ExtensionHandler handler;
+    private final long flushTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong handled = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    AsyncExtensionDispatcher(ArchUnitExtension extension, Properties extensionProperties, ExtensionHandler handler) {
+        this.extension = extension;
+        this.handler = handler;
+        this.flushTimeoutMillis = Long.parseLong(extensionProperties.getProperty(FLUSH_TIMEOUT_MILLIS_PROPERTY, String.valueOf(DEFAULT_FLUSH_TIMEOUT_MILLIS)));
+        int queueCapacity = Integer.parseInt(extensionProperties.getProperty(QUEUE_CAPACITY_PROPERTY, String.valueOf(DEFAULT_QUEUE_CAPACITY)));
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "archunit-extension-" + extension.getUniqueIdentifier());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param extensionProperties the properties of the extension at the time the rule was evaluated
+     *                            (the {@link com.tngtech.archunit.ArchConfiguration} is not visible to the background thread)
+     */
+    void dispatch(Properties extensionProperties, EvaluatedRule evaluatedRule) {
+        try {
+            executor.execute(() -> handle(extensionProperties, evaluatedRule));
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                // the dispatcher has been flushed concurrently (e.g. by the shutdown hook), so the rule has not been dropped
+                // because the extension could not keep up, but simply came too late for the background thread
+                // (handle(..) is synchronized, since the background thread might still be handling the pending rules)
+                handle(extensionProperties, evaluatedRule);
+                return;
+            }
+            long droppedSoFar = dropped.incrementAndGet();
+            LOG.warn("Dropping evaluated rule for extension '{}', because {} rules are still pending (dropped {} rules so far)",
+                    extension.getUniqueIdentifier(), executor.getQueue().size(), droppedSoFar);
+        }
+    }
+
+    private synchronized void handle(Properties extensionProperties, EvaluatedRule evaluatedRule) {
+        if (handler.configureAndHandle(extension, extensionProperties, evaluatedRule)) {
+            handled.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stops handing further rules to the background thread and waits until all pending rules have been handled by the extension
+     * (or the configured {@value #FLUSH_TIMEOUT_MILLIS_PROPERTY} has passed). Rules dispatched after this are handled
+     * on the dispatching thread.
+     */
+    void flush() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(flushTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Extension '{}' did not handle {} pending rules within {} ms",
+                        extension.getUniqueIdentifier(), executor.getQueue().size(), flushTimeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.get() > 0 || failed.get() > 0) {
+            LOG.warn("Extension '{}' handled {} rules, {} rules failed, {} rules were dropped",
+                    extension.getUniqueIdentifier(), handled.get(), failed.get(), dropped.get());
+        } else {
+            LOG.debug("Extension '{}' handled {} rules", extension.getUniqueIdentifier(), handled.get());
+        }
+    }
+
+    long getNumberOfHandledRules() {
+        return handled.get();
+    }
+
+    long getNumberOfDroppedRules() {
+        return dropped.get();
+    }
+
+    long getNumberOfFailedRules() {
+        return failed.get();
+    }
+
+    @FunctionalInterface
+    interface ExtensionHandler {
+        /**
+         * @return {@code true}, if the extension has handled the rule successfully
+         */
+        boolean configureAndHandle(ArchUnitExtension extension, Properties extensionProperties, EvaluatedRule evaluatedRule);
+    }
+}
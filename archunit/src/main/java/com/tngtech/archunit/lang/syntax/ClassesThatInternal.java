@@ -28,6 +28,7 @@ import com.tngtech.archunit.core.domain.JavaMember;
 import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.domain.JavaStaticInitializer;
+import com.tngtech.archunit.core.domain.MemoizedClassPredicates;
 import com.tngtech.archunit.lang.syntax.elements.ClassesThat;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -82,22 +83,22 @@ class ClassesThatInternal<CONJUNCTION> implements ClassesThat<CONJUNCTION> {
 
     @Override
     public CONJUNCTION areAnnotatedWith(Class<? extends Annotation> annotationType) {
-        return givenWith(are(annotatedWith(annotationType)));
+        return givenWith(are(MemoizedClassPredicates.annotatedWith(annotationType)));
     }
 
     @Override
     public CONJUNCTION areNotAnnotatedWith(Class<? extends Annotation> annotationType) {
-        return givenWith(are(not(annotatedWith(annotationType))));
+        return givenWith(are(not(MemoizedClassPredicates.annotatedWith(annotationType))));
     }
 
     @Override
     public CONJUNCTION areAnnotatedWith(String annotationTypeName) {
-        return givenWith(are(annotatedWith(annotationTypeName)));
+        return givenWith(are(MemoizedClassPredicates.annotatedWith(annotationTypeName)));
     }
 
     @Override
     public CONJUNCTION areNotAnnotatedWith(String annotationTypeName) {
-        return givenWith(are(not(annotatedWith(annotationTypeName))));
+        return givenWith(are(not(MemoizedClassPredicates.annotatedWith(annotationTypeName))));
     }
 
     @Override
@@ -112,22 +113,22 @@ class ClassesThatInternal<CONJUNCTION> implements ClassesThat<CONJUNCTION> {
 
     @Override
     public CONJUNCTION areMetaAnnotatedWith(Class<? extends Annotation> annotationType) {
-        return givenWith(are(metaAnnotatedWith(annotationType)));
+        return givenWith(are(MemoizedClassPredicates.metaAnnotatedWith(annotationType)));
     }
 
     @Override
     public CONJUNCTION areNotMetaAnnotatedWith(Class<? extends Annotation> annotationType) {
-        return givenWith(are(not(metaAnnotatedWith(annotationType))));
+        return givenWith(are(not(MemoizedClassPredicates.metaAnnotatedWith(annotationType))));
     }
 
     @Override
     public CONJUNCTION areMetaAnnotatedWith(String annotationTypeName) {
-        return givenWith(are(metaAnnotatedWith(annotationTypeName)));
+        return givenWith(are(MemoizedClassPredicates.metaAnnotatedWith(annotationTypeName)));
     }
 
     @Override
     public CONJUNCTION areNotMetaAnnotatedWith(String annotationTypeName) {
-        return givenWith(are(not(metaAnnotatedWith(annotationTypeName))));
+        return givenWith(are(not(MemoizedClassPredicates.metaAnnotatedWith(annotationTypeName))));
     }
 
     @Override
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+
+import static com.tngtech.archunit.core.domain.ImportedClassIds.NOT_PART_OF_IMPORT;
+import static com.tngtech.archunit.core.domain.ImportedClassIds.getIdWithinImportOf;
+import static com.tngtech.archunit.core.domain.ImportedClassIds.getNumberOfClassesOfImport;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+
+/**
+ * Detects cycles between the classes under test themselves, or between groups of these classes (e.g. their packages).
+ * Unlike {@link SliceCycleArchCondition} this does not create any intermediate {@link Slice Slices}
+ * or {@link Edge Edges}, but uses the dense ids of the imported classes, assigns dense ids to the nodes and builds the
+ * {@link PrimitiveGraph} directly from the dependencies of the classes. {@link Dependency Dependencies} are only collected again
+ * for the edges of the cycles that are actually reported.
+ *
+ * @param <NODE> the type of the nodes of the graph, e.g. {@link JavaClass} or the package name
+ */
+class ClassCycleArchCondition<NODE> extends ArchCondition<JavaClass> {
+    private static final int NO_NODE = -1;
+
+    private final Function<JavaClass, NODE> getNode;
+    private final Function<NODE, String> describeNode;
+    private List<JavaClass> classes;
+    private ClassIds classIds;
+    private List<NODE> nodes;
+    private int[] nodeIdByClassIndex;
+    private int[] nodeIdByClassId;
+    private int[] classIndexOffsetsByNodeId;
+    private int[] classIndexesSortedByNodeId;
+
+    private ClassCycleArchCondition(String description, Function<JavaClass, NODE> getNode, Function<NODE, String> describeNode) {
+        super(description);
+        this.getNode = getNode;
+        this.describeNode = describeNode;
+    }
+
+    @Override
+    public void init(Collection<JavaClass> allClasses) {
+        classes = ImmutableList.copyOf(allClasses);
+        classIds = ClassIds.of(classes);
+        Map<NODE, Integer> nodeIds = new HashMap<>();
+        nodes = new ArrayList<>();
+        nodeIdByClassIndex = new int[classes.size()];
+        nodeIdByClassId = new int[classIds.numberOfIds];
+        fill(nodeIdByClassId, NO_NODE);
+        for (int classIndex = 0; classIndex < classes.size(); classIndex++) {
+            JavaClass javaClass = classes.get(classIndex);
+            NODE node = getNode.apply(javaClass);
+            Integer nodeId = nodeIds.get(node);
+            if (nodeId == null) {
+                nodeId = nodes.size();
+                nodeIds.put(node, nodeId);
+                nodes.add(node);
+            }
+            nodeIdByClassIndex[classIndex] = nodeId;
+            nodeIdByClassId[classIds.getId(javaClass)] = nodeId;
+        }
+        groupClassIndexesByNodeId();
+    }
+
+    /**
+     * Counting sort of all class indexes by node id, i.e. the classes of node {@code n} are
+     * {@code classIndexesSortedByNodeId[classIndexOffsetsByNodeId[n]..classIndexOffsetsByNodeId[n+1]]}
+     */
+    private void groupClassIndexesByNodeId() {
+        classIndexOffsetsByNodeId = new int[nodes.size() + 1];
+        for (int nodeId : nodeIdByClassIndex) {
+            classIndexOffsetsByNodeId[nodeId + 1]++;
+        }
+        for (int i = 1; i < classIndexOffsetsByNodeId.length; i++) {
+            classIndexOffsetsByNodeId[i] += classIndexOffsetsByNodeId[i - 1];
+        }
+        classIndexesSortedByNodeId = new int[classes.size()];
+        int[] next = copyOf(classIndexOffsetsByNodeId, nodes.size());
+        for (int classIndex = 0; classIndex < classes.size(); classIndex++) {
+            classIndexesSortedByNodeId[next[nodeIdByClassIndex[classIndex]]++] = classIndex;
+        }
+    }
+
+    @Override
+    public void check(JavaClass javaClass, ConditionEvents events) {
+    }
+
+    @Override
+    public void finish(ConditionEvents events) {
+        CycleConfiguration configuration = new CycleConfiguration();
+        PrimitiveGraph graph = createGraph();
+        if (configuration.isReportOneCyclePerComponentEnabled()) {
+            List<int[]> cycles = new ShortestCycleFinder(graph).findShortestCyclePerComponent();
+            if (!cycles.isEmpty()) {
+                events.setInformationAboutNumberOfViolations(CycleEvent.oneCyclePerComponentInformation(cycles.size(), "classes"));
+            }
+            cycles.forEach(cycle -> events.add(createEvent(cycle, configuration)));
+        } else {
+            AtomicInteger numberOfCycles = new AtomicInteger();
+            boolean maxNumberOfCyclesReached = new JohnsonCycleFinder(graph).findCycles(cycle -> {
+                numberOfCycles.incrementAndGet();
+                events.add(createEvent(cycle, configuration));
+            });
+            if (maxNumberOfCyclesReached) {
+                events.setInformationAboutNumberOfViolations(CycleEvent.maxNumberOfCyclesReachedInformation(numberOfCycles.get()));
+            }
+        }
+        releaseResources();
+    }
+
+    private PrimitiveGraph createGraph() {
+        int[][] edges = new int[nodes.size()][];
+        int[] lastOriginNodeIdByTargetNodeId = new int[nodes.size()];
+        fill(lastOriginNodeIdByTargetNodeId, NO_NODE);
+        int[] tempTargetNodeIds = new int[nodes.size()];
+        for (int originNodeId = 0; originNodeId < nodes.size(); originNodeId++) {
+            int numberOfTargets = 0;
+            for (int i = classIndexOffsetsByNodeId[originNodeId]; i < classIndexOffsetsByNodeId[originNodeId + 1]; i++) {
+                for (Dependency dependency : classes.get(classIndexesSortedByNodeId[i]).getDirectDependenciesFromSelf()) {
+                    int targetNodeId = getNodeIdOf(dependency.getTargetClass());
+                    if (targetNodeId != NO_NODE && targetNodeId != originNodeId && lastOriginNodeIdByTargetNodeId[targetNodeId] != originNodeId) {
+                        lastOriginNodeIdByTargetNodeId[targetNodeId] = originNodeId;
+                        tempTargetNodeIds[numberOfTargets++] = targetNodeId;
+                    }
+                }
+            }
+            edges[originNodeId] = copyOf(tempTargetNodeIds, numberOfTargets);
+        }
+        return new PrimitiveGraph(edges);
+    }
+
+    private int getNodeIdOf(JavaClass javaClass) {
+        int classId = classIds.getId(javaClass);
+        return classId != NOT_PART_OF_IMPORT ? nodeIdByClassId[classId] : NO_NODE;
+    }
+
+    private CycleEvent<NODE> createEvent(int[] rawCycle, CycleConfiguration configuration) {
+        ImmutableList.Builder<Edge<NODE, Dependency>> edges = ImmutableList.builder();
+        for (int i = 0; i < rawCycle.length; i++) {
+            int originNodeId = rawCycle[i];
+            int targetNodeId = rawCycle[(i + 1) % rawCycle.length];
+            edges.add(new Edge<>(nodes.get(originNodeId), nodes.get(targetNodeId), getDependencies(originNodeId, targetNodeId)));
+        }
+        return new CycleEvent<>(new Cycle<>(edges.build()), describeNode, configuration.getMaxNumberOfDependenciesToShowPerEdge());
+    }
+
+    private List<Dependency> getDependencies(int originNodeId, int targetNodeId) {
+        List<Dependency> result = new ArrayList<>();
+        for (int i = classIndexOffsetsByNodeId[originNodeId]; i < classIndexOffsetsByNodeId[originNodeId + 1]; i++) {
+            for (Dependency dependency : classes.get(classIndexesSortedByNodeId[i]).getDirectDependenciesFromSelf()) {
+                if (getNodeIdOf(dependency.getTargetClass()) == targetNodeId) {
+                    result.add(dependency);
+                }
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private void releaseResources() {
+        classes = null;
+        classIds = null;
+        nodes = null;
+        nodeIdByClassIndex = null;
+        nodeIdByClassId = null;
+        classIndexOffsetsByNodeId = null;
+        classIndexesSortedByNodeId = null;
+    }
+
+    /**
+     * Nested classes are considered part of their top-level class, since nested classes and their enclosing classes
+     * usually depend on each other (e.g. the outer class calls the constructor of an inner class, while the inner class
+     * accesses {@code this$0} or members of the outer class).
+     */
+    static ClassCycleArchCondition<JavaClass> betweenClasses() {
+        return new ClassCycleArchCondition<>("be free of cycles", ClassCycleArchCondition::getTopLevelClass, javaClass -> "Class <" + javaClass.getName() + ">");
+    }
+
+    private static JavaClass getTopLevelClass(JavaClass javaClass) {
+        JavaClass result = javaClass;
+        while (result.getEnclosingClass().isPresent()) {
+            result = result.getEnclosingClass().get();
+        }
+        return result;
+    }
+
+    static ClassCycleArchCondition<String> betweenPackages() {
+        return new ClassCycleArchCondition<>("reside in packages free of cycles", JavaClass::getPackageName, packageName -> "Package <" + packageName + ">");
+    }
+
+    /**
+     * Usually all classes under test stem from one import, so we can simply use the ids of that import.
+     * Only if the classes have been combined from several imports, we have to assign our own ids.
+     */
+    private static class ClassIds {
+        private final int numberOfIds;
+        private final ToIntFunction<JavaClass> getId;
+
+        private ClassIds(int numberOfIds, ToIntFunction<JavaClass> getId) {
+            this.numberOfIds = numberOfIds;
+            this.getId = getId;
+        }
+
+        /**
+         * @return the id of {@code javaClass} or {@link com.tngtech.archunit.core.domain.ImportedClassIds#NOT_PART_OF_IMPORT}
+         */
+        int getId(JavaClass javaClass) {
+            return getId.applyAsInt(javaClass);
+        }
+
+        static ClassIds of(List<JavaClass> classes) {
+            if (classes.isEmpty()) {
+                return new ClassIds(0, javaClass -> NOT_PART_OF_IMPORT);
+            }
+
+            JavaClass classOfImport = classes.get(0);
+            if (classes.stream().allMatch(javaClass -> getIdWithinImportOf(classOfImport, javaClass) != NOT_PART_OF_IMPORT)) {
+                return new ClassIds(getNumberOfClassesOfImport(classOfImport), javaClass -> getIdWithinImportOf(classOfImport, javaClass));
+            }
+
+            Map<JavaClass, Integer> ids = new HashMap<>();
+            for (int i = 0; i < classes.size(); i++) {
+                ids.put(classes.get(i), i);
+            }
+            return new ClassIds(classes.size(), javaClass -> ids.getOrDefault(javaClass, NOT_PART_OF_IMPORT));
+        }
+    }
+}
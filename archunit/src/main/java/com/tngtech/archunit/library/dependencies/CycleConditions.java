@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * CycleConditions provides {@link ArchCondition ArchConditions} to detect cycles between the classes under test
+ * or their packages, without having to define any {@link Slices} (compare {@link SlicesRuleDefinition} for cycles
+ * between {@link Slice Slices}). E.g.
+ * <pre><code>
+ * classes().that().resideInAPackage("com.myapp..").should(beFreeOfCycles())
+ * </code></pre>
+ * Only dependencies between the classes under test are considered. Like for {@link Slices} the number of cycles to
+ * detect and the reported dependencies can be configured via {@code archunit.properties}
+ * (compare {@code cycles.maxNumberToDetect}, {@code cycles.maxNumberOfDependenciesPerEdge} and {@code cycles.reportOneCyclePerComponent}).
+ */
+@PublicAPI(usage = ACCESS)
+public final class CycleConditions {
+    private CycleConditions() {
+    }
+
+    /**
+     * @return A condition that is violated by every cycle of dependencies between the classes under test,
+     *         e.g. {@code A -> B -> C -> A}. Nested classes (e.g. inner or anonymous classes) are considered part of
+     *         their top-level class, i.e. dependencies between a class and its nested classes never form a cycle,
+     *         and dependencies of nested classes count as dependencies of their top-level class.
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ArchCondition<JavaClass> beFreeOfCycles() {
+        return ClassCycleArchCondition.betweenClasses();
+    }
+
+    /**
+     * @return A condition that is violated by every cycle of dependencies between the packages of the classes under test,
+     *         e.g. a class in {@code com.myapp.a} depending on a class in {@code com.myapp.b}, while some other class in
+     *         {@code com.myapp.b} depends on a class in {@code com.myapp.a}. Note that each package is considered on its own,
+     *         i.e. dependencies between sub packages do not count as dependencies between their parent packages.
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ArchCondition<JavaClass> resideInPackagesFreeOfCycles() {
+        return ClassCycleArchCondition.betweenPackages();
+    }
+}
@@ -22,9 +22,18 @@ final class CycleConfiguration {
     private static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE = "100";
     static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME = "cycles.maxNumberOfDependenciesPerEdge";
     private static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE = "20";
+    static final String PARALLEL_SEARCH_PROPERTY_NAME = "cycles.parallelSearch";
+    private static final String PARALLEL_SEARCH_DEFAULT_VALUE = "false";
+    static final String PARALLEL_EDGE_COLLECTION_PROPERTY_NAME = "cycles.parallelEdgeCollection";
+    private static final String PARALLEL_EDGE_COLLECTION_DEFAULT_VALUE = "false";
+    static final String REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME = "cycles.reportOneCyclePerComponent";
+    private static final String REPORT_ONE_CYCLE_PER_COMPONENT_DEFAULT_VALUE = "false";
 
     private final int maxCyclesToDetect;
     private final int maxDependenciesPerEdge;
+    private final boolean parallelSearch;
+    private final boolean parallelEdgeCollection;
+    private final boolean reportOneCyclePerComponent;
 
     CycleConfiguration() {
         String configuredMaxCyclesToDetect = ArchConfiguration.get()
@@ -35,6 +44,18 @@ final class CycleConfiguration {
                 .getPropertyOrDefault(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME,
                         MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE);
         maxDependenciesPerEdge = Integer.parseInt(configuredMaxDependenciesPerEdge);
+
+        String configuredParallelSearch = ArchConfiguration.get()
+                .getPropertyOrDefault(PARALLEL_SEARCH_PROPERTY_NAME, PARALLEL_SEARCH_DEFAULT_VALUE);
+        parallelSearch = Boolean.parseBoolean(configuredParallelSearch);
+
+        String configuredParallelEdgeCollection = ArchConfiguration.get()
+                .getPropertyOrDefault(PARALLEL_EDGE_COLLECTION_PROPERTY_NAME, PARALLEL_EDGE_COLLECTION_DEFAULT_VALUE);
+        parallelEdgeCollection = Boolean.parseBoolean(configuredParallelEdgeCollection);
+
+        String configuredReportOneCyclePerComponent = ArchConfiguration.get()
+                .getPropertyOrDefault(REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME, REPORT_ONE_CYCLE_PER_COMPONENT_DEFAULT_VALUE);
+        reportOneCyclePerComponent = Boolean.parseBoolean(configuredReportOneCyclePerComponent);
     }
 
     int getMaxNumberOfCyclesToDetect() {
@@ -44,4 +65,16 @@ final class CycleConfiguration {
     int getMaxNumberOfDependenciesToShowPerEdge() {
         return maxDependenciesPerEdge;
     }
+
+    boolean isParallelSearchEnabled() {
+        return parallelSearch;
+    }
+
+    boolean isParallelEdgeCollectionEnabled() {
+        return parallelEdgeCollection;
+    }
+
+    boolean isReportOneCyclePerComponentEnabled() {
+        return reportOneCyclePerComponent;
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Strings;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME;
+import static java.lang.System.lineSeparator;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * Reports a cycle between nodes (e.g. {@link Slice Slices}) described by {@code describeNode}.
+ * Only retains those dependencies of each edge that will actually be reported and renders the description on demand.
+ * Thus the memory needed to report many cycles is bounded by the size of the report and does not grow with the number
+ * of dependencies between the nodes.
+ */
+class CycleEvent<T> implements ConditionEvent {
+    private static final String CYCLE_DETECTED_SECTION_INTRO = "Cycle detected: ";
+    private static final String DEPENDENCY_DETAILS_INDENT = Strings.repeat(" ", 4);
+
+    private final Cycle<T, Dependency> cycleWithDependenciesToReport;
+    private final int[] numberOfDependenciesPerEdge;
+    private final Function<T, String> describeNode;
+
+    CycleEvent(Cycle<T, Dependency> cycle, Function<T, String> describeNode, int maxDependenciesPerEdge) {
+        this.describeNode = describeNode;
+        List<Edge<T, Dependency>> edges = cycle.getEdges();
+        List<Edge<T, Dependency>> edgesToReport = new ArrayList<>(edges.size());
+        numberOfDependenciesPerEdge = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            Edge<T, Dependency> edge = edges.get(i);
+            List<Dependency> dependencies = edge.getAttachments();
+            numberOfDependenciesPerEdge[i] = dependencies.size();
+            edgesToReport.add(new Edge<>(edge.getFrom(), edge.getTo(), dependencies.subList(0, Math.min(dependencies.size(), maxDependenciesPerEdge))));
+        }
+        cycleWithDependenciesToReport = new Cycle<>(edgesToReport);
+    }
+
+    @Override
+    public boolean isViolation() {
+        return true;
+    }
+
+    @Override
+    public ConditionEvent invert() {
+        return SimpleConditionEvent.satisfied(cycleWithDependenciesToReport, createMessage());
+    }
+
+    @Override
+    public List<String> getDescriptionLines() {
+        return singletonList(createMessage());
+    }
+
+    @Override
+    public void handleWith(Handler handler) {
+        handler.handle(singleton(cycleWithDependenciesToReport), createMessage());
+    }
+
+    private String createMessage() {
+        List<Edge<T, Dependency>> edges = cycleWithDependenciesToReport.getEdges();
+        int startIndex = indexOfEdgeWithFirstOriginDescription(edges);
+        List<String> sliceDescriptions = new ArrayList<>();
+        List<String> details = new ArrayList<>();
+        for (int i = 0; i < edges.size(); i++) {
+            int edgeIndex = (startIndex + i) % edges.size();
+            String sliceDescription = describeNode.apply(edges.get(edgeIndex).getFrom());
+            sliceDescriptions.add(sliceDescription);
+            details.add(String.format("  %d. Dependencies of %s", i + 1, sliceDescription));
+            details.addAll(dependenciesDescription(edges.get(edgeIndex), numberOfDependenciesPerEdge[edgeIndex]));
+        }
+        sliceDescriptions.add(sliceDescriptions.get(0));
+
+        String description = Joiner.on(" -> " + lineSeparator() + Strings.repeat(" ", CYCLE_DETECTED_SECTION_INTRO.length())).join(sliceDescriptions);
+        return CYCLE_DETECTED_SECTION_INTRO + description + lineSeparator() + Joiner.on(lineSeparator()).join(details);
+    }
+
+    private int indexOfEdgeWithFirstOriginDescription(List<Edge<T, Dependency>> edges) {
+        int result = 0;
+        for (int i = 1; i < edges.size(); i++) {
+            if (describeNode.apply(edges.get(i).getFrom()).compareTo(describeNode.apply(edges.get(result).getFrom())) < 0) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private List<String> dependenciesDescription(Edge<T, Dependency> edge, int numberOfDependencies) {
+        List<Dependency> dependenciesToDisplay = edge.getAttachments();
+        List<String> result = dependenciesToDisplay.stream()
+                .map(dependency -> DEPENDENCY_DETAILS_INDENT + "- " + dependency.getDescription())
+                .collect(toCollection(ArrayList::new));
+        if (numberOfDependencies > dependenciesToDisplay.size()) {
+            result.add(DEPENDENCY_DETAILS_INDENT + String.format("(%d further dependencies have been omitted...)",
+                    numberOfDependencies - dependenciesToDisplay.size()));
+        }
+        return result;
+    }
+
+    static String maxNumberOfCyclesReachedInformation(int numberOfReportedCycles) {
+        return String.format(" >= %d times - the maximum number of cycles to detect has been reached; "
+                        + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
+                numberOfReportedCycles, MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+    }
+
+    static String oneCyclePerComponentInformation(int numberOfReportedCycles, String nodesDescription) {
+        return String.format("%d times - only one shortest cycle per group of cyclically dependent %s has been reported; "
+                        + "all cycles can be reported by setting the `archunit.properties` value `%s=false`",
+                numberOfReportedCycles, nodesDescription, REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME);
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("cycle", cycleWithDependenciesToReport)
+                .toString();
+    }
+}
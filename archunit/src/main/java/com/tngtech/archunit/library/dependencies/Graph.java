@@ -15,23 +15,32 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ForwardingCollection;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ListMultimap;
-import com.google.common.collect.Multimap;
+import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.IntList;
+import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.LongToIntMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.LongToIntMap.ABSENT;
 
+/**
+ * Edges are stored by index, together with the indexes of their origin and target node in primitive form.
+ * This way we can create the {@link PrimitiveGraph} for cycle detection directly (grouping the edges by origin via counting sort)
+ * and map the edges of the detected cycles back via a primitive map keyed by origin and target.
+ */
 class Graph<T, ATTACHMENT> {
     private final Map<T, Integer> nodes = new HashMap<>();
-    private final ListMultimap<Integer, Edge<T, ATTACHMENT>> outgoingEdges = ArrayListMultimap.create();
+    private final List<Edge<T, ATTACHMENT>> edges = new ArrayList<>();
+    private final IntList edgeOrigins = new IntList();
+    private final IntList edgeTargets = new IntList();
+    private final LongToIntMap edgeIndexByOriginAndTarget = new LongToIntMap();
 
     void addNodes(Iterable<T> nodes) {
         for (T node : nodes) {
@@ -43,60 +52,76 @@ class Graph<T, ATTACHMENT> {
 
     void addEdges(Iterable<Edge<T, ATTACHMENT>> outgoingEdges) {
         for (Edge<T, ATTACHMENT> edge : outgoingEdges) {
-            checkArgument(nodes.containsKey(edge.getFrom()), "Node %s of edge %s is not part of the graph", edge.getFrom(), edge);
-            checkArgument(nodes.containsKey(edge.getTo()), "Node %s of edge %s is not part of the graph", edge.getTo(), edge);
-            this.outgoingEdges.put(nodes.get(edge.getFrom()), edge);
+            Integer originIndex = nodes.get(edge.getFrom());
+            Integer targetIndex = nodes.get(edge.getTo());
+            checkArgument(originIndex != null, "Node %s of edge %s is not part of the graph", edge.getFrom(), edge);
+            checkArgument(targetIndex != null, "Node %s of edge %s is not part of the graph", edge.getTo(), edge);
+            int previousEdgeIndex = edgeIndexByOriginAndTarget.put(key(originIndex, targetIndex), edges.size());
+            checkArgument(previousEdgeIndex == ABSENT, "Graph already contains an edge from %s to %s", edge.getFrom(), edge.getTo());
+
+            edges.add(edge);
+            edgeOrigins.add(originIndex);
+            edgeTargets.add(targetIndex);
         }
     }
 
+    private static long key(int originIndex, int targetIndex) {
+        return ((long) originIndex << Integer.SIZE) | targetIndex;
+    }
+
     Cycles<T, ATTACHMENT> findCycles() {
-        Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
-        JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(createPrimitiveGraph());
         ImmutableList.Builder<Cycle<T, ATTACHMENT>> result = ImmutableList.builder();
-        JohnsonCycleFinder.Result cycles = johnsonCycleFinder.findCycles();
-        for (int[] rawCycle : cycles) {
-            result.add(mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle));
-        }
-        return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached());
+        boolean maxNumberOfCyclesReached = findCycles(result::add);
+        return new Cycles<>(result.build(), maxNumberOfCyclesReached);
     }
 
-    private PrimitiveGraph createPrimitiveGraph() {
-        int[][] edges = new int[nodes.size()][];
-        for (Map.Entry<T, Integer> nodeToIndex : nodes.entrySet()) {
-            List<Edge<T, ATTACHMENT>> outgoing = outgoingEdges.get(nodeToIndex.getValue());
-            edges[nodeToIndex.getValue()] = new int[outgoing.size()];
-            for (int j = 0; j < outgoing.size(); j++) {
-                edges[nodeToIndex.getValue()][j] = nodes.get(outgoing.get(j).getTo());
-            }
-        }
-        return new PrimitiveGraph(edges);
+    /**
+     * Like {@link #findCycles()}, but passes each cycle to {@code onCycleFound} as soon as it has been found,
+     * instead of collecting all cycles in memory.
+     *
+     * @return {@code true}, if the maximum number of cycles to detect has been reached
+     */
+    boolean findCycles(Consumer<Cycle<T, ATTACHMENT>> onCycleFound) {
+        return new JohnsonCycleFinder(createPrimitiveGraph())
+                .findCycles(rawCycle -> onCycleFound.accept(mapToCycle(rawCycle)));
     }
 
-    private ImmutableMap<Integer, Map<Integer, Edge<T, ATTACHMENT>>> indexEdgesByTargetIndexByOriginIndex(
-            Map<T, Integer> nodes,
-            Multimap<Integer, Edge<T, ATTACHMENT>> outgoingEdges) {
+    /**
+     * @return one shortest cycle per strongly connected component (i.e. group of nodes that can all reach each other),
+     *         which is sufficient to tell if the graph is free of cycles (compare {@link ShortestCycleFinder})
+     */
+    Cycles<T, ATTACHMENT> findShortestCyclePerComponent() {
+        ImmutableList.Builder<Cycle<T, ATTACHMENT>> result = ImmutableList.builder();
+        for (int[] rawCycle : new ShortestCycleFinder(createPrimitiveGraph()).findShortestCyclePerComponent()) {
+            result.add(mapToCycle(rawCycle));
+        }
+        return new Cycles<>(result.build(), false);
+    }
 
-        ImmutableMap.Builder<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgeMapBuilder = ImmutableMap.builder();
-        for (Map.Entry<Integer, Collection<Edge<T, ATTACHMENT>>> originIndexToEdges : outgoingEdges.asMap().entrySet()) {
-            ImmutableMap.Builder<Integer, Edge<T, ATTACHMENT>> targetIndexToEdges = ImmutableMap.builder();
-            for (Edge<T, ATTACHMENT> edge : originIndexToEdges.getValue()) {
-                targetIndexToEdges.put(nodes.get(edge.getTo()), edge);
-            }
-            edgeMapBuilder.put(originIndexToEdges.getKey(), targetIndexToEdges.build());
+    private PrimitiveGraph createPrimitiveGraph() {
+        int[][] adjacentNodes = new int[nodes.size()][];
+        int[] numberOfOutgoingEdges = new int[nodes.size()];
+        for (int i = 0; i < edgeOrigins.size(); i++) {
+            numberOfOutgoingEdges[edgeOrigins.get(i)]++;
         }
-        return edgeMapBuilder.build();
+        for (int node = 0; node < adjacentNodes.length; node++) {
+            adjacentNodes[node] = new int[numberOfOutgoingEdges[node]];
+        }
+        int[] next = new int[nodes.size()];
+        for (int i = 0; i < edgeOrigins.size(); i++) {
+            int origin = edgeOrigins.get(i);
+            adjacentNodes[origin][next[origin]++] = edgeTargets.get(i);
+        }
+        return new PrimitiveGraph(adjacentNodes);
     }
 
-    private Cycle<T, ATTACHMENT> mapToCycle(Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex, int[] rawCycle) {
+    private Cycle<T, ATTACHMENT> mapToCycle(int[] rawCycle) {
         ImmutableList.Builder<Edge<T, ATTACHMENT>> edges = ImmutableList.builder();
-        int originIndex = -1;
-        for (int targetIndex : rawCycle) {
-            if (originIndex >= 0) {
-                edges.add(edgesByTargetIndexByOriginIndex.get(originIndex).get(targetIndex));
-            }
-            originIndex = targetIndex;
+        for (int i = 0; i < rawCycle.length; i++) {
+            int originIndex = rawCycle[i];
+            int targetIndex = rawCycle[(i + 1) % rawCycle.length];
+            edges.add(this.edges.get(edgeIndexByOriginAndTarget.get(key(originIndex, targetIndex))));
         }
-        edges.add(edgesByTargetIndexByOriginIndex.get(originIndex).get(rawCycle[0]));
         return new Cycle<>(edges.build());
     }
 
@@ -104,7 +129,7 @@ class Graph<T, ATTACHMENT> {
     public String toString() {
         return "Graph{" +
                 "nodes=" + nodes +
-                ", edges=" + outgoingEdges +
+                ", edges=" + edges +
                 '}';
     }
 
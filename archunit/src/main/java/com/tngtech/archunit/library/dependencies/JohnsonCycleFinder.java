@@ -16,14 +16,21 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO_COMPONENT_FOUND;
+import static java.util.Arrays.binarySearch;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
 
 /**
  * An implementation of Johnson's algorithm to find cycles within an uni-directed graph
@@ -54,36 +61,126 @@ import static com.tngtech.archunit.library.dependencies.TarjanComponentFinder.NO
  *         We then also never need to unblock this node, if all its descendants cannot lead
  *         back to the starting node)</li>
  * </ul>
+ * If the property {@code cycles.parallelSearch} is enabled, we instead determine all strongly
+ * connected components up front and search each of them concurrently (compare {@code findCyclesOfAllComponentsInParallel(..)}).
  */
 class JohnsonCycleFinder {
     private static final Logger log = LoggerFactory.getLogger(JohnsonCycleFinder.class);
 
-    private int nodeToProcess = 0;
     private final PrimitiveGraph primitiveGraph;
 
     JohnsonCycleFinder(PrimitiveGraph primitiveGraph) {
         this.primitiveGraph = primitiveGraph;
     }
 
-    Result findCycles() {
-        Result result = new Result();
-        TarjanComponentFinder componentFinder = new TarjanComponentFinder(primitiveGraph);
-        JohnsonComponent johnsonComponent = JohnsonComponent.within(primitiveGraph);
-        while (nodeToProcess < primitiveGraph.getSize()) {
+    /**
+     * Passes each cycle to {@code onCycleFound} as soon as it has been found (in parallel mode once all components have been searched),
+     * so callers do not need to hold all cycles in memory at once.
+     *
+     * @return {@code true}, if the maximum number of cycles to detect has been reached, i.e. if there might be further cycles
+     */
+    boolean findCycles(Consumer<int[]> onCycleFound) {
+        CycleConfiguration configuration = new CycleConfiguration();
+        log.debug("Maximum number of cycles to detect is set to {}; "
+                        + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
+                configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+
+        if (configuration.isParallelSearchEnabled()) {
+            return findCyclesOfAllComponentsInParallel(configuration.getMaxNumberOfCyclesToDetect(), onCycleFound);
+        }
+
+        CycleLimit limit = new CycleLimit(configuration.getMaxNumberOfCyclesToDetect());
+        findCycles(primitiveGraph, limit, cycle -> {
+            if (limit.tryToReserveCycle()) {
+                onCycleFound.accept(cycle);
+            }
+        });
+        return limit.maxNumberOfCyclesReached();
+    }
+
+    /**
+     * Cycles can never span two strongly connected components of the whole graph. Thus we can search each
+     * of these components independently, as a sub graph of its own, with its own {@link TarjanComponentFinder}
+     * and {@link JohnsonComponent}. Since the node indexes of each sub graph keep the order of the original node indexes,
+     * each search finds the same cycles in the same order as the sequential search. Sorting all cycles by their start node
+     * thus yields the same order as the sequential search.<br>
+     * To keep this deterministic once the maximum number of cycles is reached, each component collects at most
+     * {@code maxNumberOfCycles} cycles on its own. The first {@code maxNumberOfCycles} cycles of all components sorted by their start node
+     * are then exactly the cycles the sequential search would report. The {@link ParallelSearchProgress} shared between
+     * all components only serves to stop searching components, whose remaining cycles can never make it into this result.
+     */
+    private boolean findCyclesOfAllComponentsInParallel(int maxNumberOfCycles, Consumer<int[]> onCycleFound) {
+        List<int[]> components = new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents();
+        ParallelSearchProgress progress = new ParallelSearchProgress(components, maxNumberOfCycles);
+        List<ComponentCycleLimit> limits = IntStream.range(0, components.size())
+                .mapToObj(componentIndex -> new ComponentCycleLimit(maxNumberOfCycles, components.get(componentIndex), componentIndex, progress))
+                .collect(toList());
+        List<List<int[]>> cyclesByComponent = limits.parallelStream()
+                .map(this::findCyclesWithin)
+                .collect(toList());
+
+        List<int[]> cycles = new ArrayList<>();
+        cyclesByComponent.forEach(cycles::addAll);
+        cycles.sort(comparingInt(cycle -> cycle[0]));
+        cycles.stream().limit(maxNumberOfCycles).forEach(onCycleFound);
+        return cycles.size() > maxNumberOfCycles || limits.stream().anyMatch(CycleLimit::maxNumberOfCyclesReached);
+    }
+
+    private List<int[]> findCyclesWithin(ComponentCycleLimit limit) {
+        List<int[]> cycles = new ArrayList<>();
+        findCycles(createSubGraph(limit.sortedComponent), limit, cycle -> {
+            if (limit.tryToReserveCycle()) {
+                cycles.add(mapToOriginalNodeIndexes(cycle, limit.sortedComponent));
+            }
+        });
+        return cycles;
+    }
+
+    private PrimitiveGraph createSubGraph(int[] sortedComponent) {
+        int[][] edges = new int[sortedComponent.length][];
+        int[] tempTargets = new int[sortedComponent.length];
+        for (int i = 0; i < sortedComponent.length; i++) {
+            int numberOfTargets = 0;
+            for (int target : primitiveGraph.getAdjacentNodesOf(sortedComponent[i])) {
+                int targetIndexInComponent = binarySearch(sortedComponent, target);
+                if (targetIndexInComponent >= 0) {
+                    tempTargets[numberOfTargets++] = targetIndexInComponent;
+                }
+            }
+            edges[i] = Arrays.copyOf(tempTargets, numberOfTargets);
+        }
+        return new PrimitiveGraph(edges);
+    }
+
+    private static int[] mapToOriginalNodeIndexes(int[] cycle, int[] sortedComponent) {
+        int[] result = new int[cycle.length];
+        for (int i = 0; i < cycle.length; i++) {
+            result[i] = sortedComponent[cycle[i]];
+        }
+        return result;
+    }
+
+    private static void findCycles(PrimitiveGraph graph, CycleLimit limit, Consumer<int[]> onCycleFound) {
+        TarjanComponentFinder componentFinder = new TarjanComponentFinder(graph);
+        JohnsonComponent johnsonComponent = JohnsonComponent.within(graph);
+        int nodeToProcess = 0;
+        while (nodeToProcess < graph.getSize()) {
             int[] nextStronglyConnectedComponent = componentFinder.findNonTrivialStronglyConnectedComponentWithLowestNodeIndexAbove(nodeToProcess);
             if (nextStronglyConnectedComponent == NO_COMPONENT_FOUND) {
                 break;
             }
 
             johnsonComponent.init(nextStronglyConnectedComponent);
-            findCycles(result, johnsonComponent.getStartNodeIndex(), johnsonComponent);
+            if (!limit.canAcceptCyclesThrough(johnsonComponent.getStartNodeIndex())) {
+                break;
+            }
+            findCycles(limit, onCycleFound, johnsonComponent.getStartNodeIndex(), johnsonComponent);
             nodeToProcess = johnsonComponent.getStartNodeIndex() + 1;
         }
-        return result;
     }
 
-    private boolean findCycles(Result result, int originNodeIndex, JohnsonComponent johnsonComponent) {
-        if (!result.canAcceptMoreCycles()) {
+    private static boolean findCycles(CycleLimit limit, Consumer<int[]> onCycleFound, int originNodeIndex, JohnsonComponent johnsonComponent) {
+        if (!limit.canAcceptMoreCycles()) {
             return false;
         }
 
@@ -94,10 +191,10 @@ class JohnsonCycleFinder {
         int[] targetNodeIndexes = johnsonComponent.getAdjacentNodesOf(originNodeIndex);
         for (int targetNodeIndex : targetNodeIndexes) {
             if (johnsonComponent.isStartNodeIndex(targetNodeIndex)) {
-                result.add(johnsonComponent.getStack());
+                onCycleFound.accept(johnsonComponent.getStack());
                 foundCycle = true;
             } else if (johnsonComponent.isNotBlocked(targetNodeIndex)) {
-                foundCycle = foundCycle | findCycles(result, targetNodeIndex, johnsonComponent);
+                foundCycle = foundCycle | findCycles(limit, onCycleFound, targetNodeIndex, johnsonComponent);
             }
         }
 
@@ -113,41 +210,126 @@ class JohnsonCycleFinder {
         return foundCycle;
     }
 
-    static class Result implements Iterable<int[]> {
-        private final CycleConfiguration configuration = new CycleConfiguration();
-        private List<int[]> cycles = new ArrayList<>();
+    /**
+     * Tracks the maximum number of cycles to detect within one search, i.e. each cycle must first reserve its slot
+     * via {@link #tryToReserveCycle()}.
+     */
+    private static class CycleLimit {
+        private final int maxNumberOfCycles;
+        private int numberOfReservedCycles = 0;
         private boolean maxNumberOfCyclesReached = false;
 
-        private Result() {
-            log.debug("Maximum number of cycles to detect is set to {}; "
-                            + "this limit can be adapted using the `archunit.properties` value `{}=xxx`",
-                    configuration.getMaxNumberOfCyclesToDetect(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME);
+        CycleLimit(int maxNumberOfCycles) {
+            this.maxNumberOfCycles = maxNumberOfCycles;
         }
 
-        private boolean canAcceptMoreCycles() {
+        boolean canAcceptMoreCycles() {
             return !maxNumberOfCyclesReached;
         }
 
+        boolean canAcceptCyclesThrough(int startNodeIndex) {
+            return canAcceptMoreCycles();
+        }
+
         boolean maxNumberOfCyclesReached() {
             return maxNumberOfCyclesReached;
         }
 
-        void add(int[] cycle) {
+        boolean tryToReserveCycle() {
             if (maxNumberOfCyclesReached) {
-                return;
+                return false;
             }
 
-            if (this.cycles.size() >= configuration.getMaxNumberOfCyclesToDetect()) {
+            if (numberOfReservedCycles >= maxNumberOfCycles) {
                 maxNumberOfCyclesReached = true;
-                return;
+                return false;
+            }
+            numberOfReservedCycles++;
+            return true;
+        }
+    }
+
+    /**
+     * The {@link CycleLimit} of one strongly connected component searched in parallel. Besides its own limit,
+     * it publishes its progress to the shared {@link ParallelSearchProgress}, and stops searching once all
+     * further cycles of this component are known to be beyond the maximum number of cycles to detect.
+     */
+    private static class ComponentCycleLimit extends CycleLimit {
+        private final int[] sortedComponent;
+        private final int componentIndex;
+        private final ParallelSearchProgress progress;
+
+        ComponentCycleLimit(int maxNumberOfCycles, int[] sortedComponent, int componentIndex, ParallelSearchProgress progress) {
+            super(maxNumberOfCycles);
+            this.sortedComponent = sortedComponent;
+            this.componentIndex = componentIndex;
+            this.progress = progress;
+        }
+
+        @Override
+        boolean canAcceptCyclesThrough(int startNodeIndex) {
+            if (!canAcceptMoreCycles()) {
+                return false;
             }
 
-            this.cycles.add(cycle);
+            int originalStartNodeIndex = sortedComponent[startNodeIndex];
+            progress.startCyclesThrough(componentIndex, originalStartNodeIndex);
+            return !progress.isMaxNumberOfCyclesExceededBefore(originalStartNodeIndex);
         }
 
         @Override
-        public Iterator<int[]> iterator() {
-            return cycles.iterator();
+        boolean tryToReserveCycle() {
+            boolean reserved = super.tryToReserveCycle();
+            if (reserved) {
+                progress.cycleFound(componentIndex);
+            }
+            return reserved;
+        }
+    }
+
+    /**
+     * Records for each component searched in parallel the (original) start node index it currently searches cycles through
+     * and the number of cycles it has found so far. All these cycles start at a node index less than or equal to the current
+     * start node index. Thus, if the components currently searching below some start node index have already found more cycles
+     * than the maximum number of cycles to detect, no cycle through this start node index or above can ever be reported.<br>
+     * The total number of cycles found is tracked as well, so we only need to sum up the cycles per component once there
+     * are enough cycles in total.
+     */
+    private static class ParallelSearchProgress {
+        private final int maxNumberOfCycles;
+        private final AtomicIntegerArray startNodeIndexByComponent;
+        private final AtomicIntegerArray numberOfCyclesByComponent;
+        private final AtomicInteger totalNumberOfCycles = new AtomicInteger();
+
+        ParallelSearchProgress(List<int[]> sortedComponents, int maxNumberOfCycles) {
+            this.maxNumberOfCycles = maxNumberOfCycles;
+            startNodeIndexByComponent = new AtomicIntegerArray(sortedComponents.stream().mapToInt(component -> component[0]).toArray());
+            numberOfCyclesByComponent = new AtomicIntegerArray(sortedComponents.size());
+        }
+
+        void startCyclesThrough(int componentIndex, int startNodeIndex) {
+            startNodeIndexByComponent.set(componentIndex, startNodeIndex);
+        }
+
+        void cycleFound(int componentIndex) {
+            numberOfCyclesByComponent.incrementAndGet(componentIndex);
+            totalNumberOfCycles.incrementAndGet();
+        }
+
+        boolean isMaxNumberOfCyclesExceededBefore(int startNodeIndex) {
+            if (totalNumberOfCycles.get() <= maxNumberOfCycles) {
+                return false;
+            }
+
+            int numberOfCyclesBefore = 0;
+            for (int i = 0; i < numberOfCyclesByComponent.length(); i++) {
+                // read the number of cycles first, since all these cycles start at or below any start node index read afterwards
+                int numberOfCycles = numberOfCyclesByComponent.get(i);
+                if (startNodeIndexByComponent.get(i) < startNodeIndex) {
+                    numberOfCyclesBefore += numberOfCycles;
+                }
+            }
+            return numberOfCyclesBefore > maxNumberOfCycles;
         }
     }
 }
@@ -76,4 +76,90 @@ class PrimitiveDataTypes {
             return copyOf(stack, pointer);
         }
     }
+
+    static final class IntList {
+        private int[] elements = new int[16];
+        private int size = 0;
+
+        void add(int number) {
+            if (size == elements.length) {
+                elements = copyOf(elements, 2 * size);
+            }
+            elements[size++] = number;
+        }
+
+        int get(int index) {
+            return elements[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A map from {@code long} to non-negative {@code int} with open addressing, to look up e.g. edges by
+     * their origin and target node without boxing.
+     */
+    static final class LongToIntMap {
+        static final int ABSENT = -1;
+
+        private long[] keys = new long[16];
+        private int[] values = newValues(16);
+        private int size = 0;
+
+        /**
+         * @return the previous value associated with {@code key} or {@link #ABSENT}
+         */
+        int put(long key, int value) {
+            checkState(value >= 0, "Only non-negative values are supported, but got %d", value);
+            if (2 * (size + 1) > keys.length) {
+                resize(2 * keys.length);
+            }
+            int slot = findSlot(keys, values, key);
+            int previous = values[slot];
+            keys[slot] = key;
+            values[slot] = value;
+            if (previous == ABSENT) {
+                size++;
+            }
+            return previous;
+        }
+
+        /**
+         * @return the value associated with {@code key} or {@link #ABSENT}
+         */
+        int get(long key) {
+            return values[findSlot(keys, values, key)];
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = newValues(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != ABSENT) {
+                    int slot = findSlot(keys, values, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int findSlot(long[] keys, int[] values, long key) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (values[slot] != ABSENT && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int[] newValues(int capacity) {
+            int[] result = new int[capacity];
+            fill(result, ABSENT);
+            return result;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2022 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds one witness cycle for each non-trivial strongly connected component of a {@link PrimitiveGraph}.
+ * Since every node of a strongly connected component lies on some cycle within that component, it is sufficient
+ * to take the lowest node index of the component as starting point and do a breadth first search
+ * (restricted to the component) until we find an edge back to the starting node. The path recorded via the
+ * predecessors of the visited nodes is then the shortest cycle through this starting node.
+ * <br><br>
+ * Unlike {@link JohnsonCycleFinder} this only takes linear time in the size of the graph, so it can quickly tell
+ * if (and where) a graph contains cycles without enumerating all of them.
+ */
+class ShortestCycleFinder {
+    private static final int NOT_VISITED = -1;
+
+    private final PrimitiveGraph graph;
+    private final int[] predecessors;
+    // the (1-based) number of the component each node belongs to, 0 for nodes of trivial components;
+    // allows to check in constant time if an adjacent node lies within the component currently searched
+    private final int[] componentNumberByNode;
+
+    ShortestCycleFinder(PrimitiveGraph graph) {
+        this.graph = graph;
+        this.predecessors = new int[graph.getSize()];
+        this.componentNumberByNode = new int[graph.getSize()];
+    }
+
+    /**
+     * @return one shortest cycle through the lowest node index of each non-trivial strongly connected component,
+     *         ordered by this starting node index. Like in {@link JohnsonCycleFinder} each cycle is represented as the
+     *         sequence of node indexes starting with the starting node (i.e. without repeating the starting node at the end).
+     */
+    List<int[]> findShortestCyclePerComponent() {
+        List<int[]> result = new ArrayList<>();
+        int componentNumber = 0;
+        for (int[] component : new TarjanComponentFinder(graph).findAllNonTrivialStronglyConnectedComponents()) {
+            result.add(findShortestCycleThroughStartNodeOf(component, ++componentNumber));
+        }
+        return result;
+    }
+
+    private int[] findShortestCycleThroughStartNodeOf(int[] sortedComponent, int componentNumber) {
+        for (int node : sortedComponent) {
+            predecessors[node] = NOT_VISITED;
+            componentNumberByNode[node] = componentNumber;
+        }
+
+        int startNode = sortedComponent[0];
+        int[] queue = new int[sortedComponent.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startNode;
+        predecessors[startNode] = startNode;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int target : graph.getAdjacentNodesOf(node)) {
+                if (target == startNode) {
+                    return pathFromStartNodeTo(node);
+                }
+                if (componentNumberByNode[target] == componentNumber && predecessors[target] == NOT_VISITED) {
+                    predecessors[target] = node;
+                    queue[tail++] = target;
+                }
+            }
+        }
+        throw new IllegalStateException(String.format(
+                "No cycle through node %d found, even though it is part of a strongly connected component. This is likely a bug!", startNode));
+    }
+
+    private int[] pathFromStartNodeTo(int lastNode) {
+        int length = 1;
+        for (int node = lastNode; predecessors[node] != node; node = predecessors[node]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int node = lastNode, i = length - 1; i >= 0; node = predecessors[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+}
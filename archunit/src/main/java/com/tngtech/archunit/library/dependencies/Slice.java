@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -212,6 +213,11 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
             return this;
         }
 
+        Builder addClasses(Collection<JavaClass> classes) {
+            this.classes.addAll(classes);
+            return this;
+        }
+
         Slice build() {
             return new Slice(sliceAssignment, matchingGroups, classes);
         }
@@ -17,35 +17,30 @@ package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import com.google.common.base.Joiner;
-import com.google.common.base.Strings;
 import com.google.common.collect.ForwardingSet;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.SortedSetMultimap;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
-import com.tngtech.archunit.lang.SimpleConditionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.google.common.collect.MultimapBuilder.hashKeys;
-import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
-import static java.lang.System.lineSeparator;
-import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 
 class SliceCycleArchCondition extends ArchCondition<Slice> {
     private static final Logger log = LoggerFactory.getLogger(SliceCycleArchCondition.class);
@@ -53,6 +48,7 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     private final DescribedPredicate<Dependency> predicate;
     private ClassesToSlicesMapping classesToSlicesMapping;
     private Graph<Slice, Dependency> graph;
+    private List<Slice> checkedSlices;
     private EventRecorder eventRecorder;
 
     SliceCycleArchCondition(DescribedPredicate<Dependency> predicate) {
@@ -69,38 +65,72 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     private void initializeResources(Iterable<Slice> allSlices) {
         classesToSlicesMapping = new ClassesToSlicesMapping(allSlices);
         graph = new Graph<>();
+        checkedSlices = new ArrayList<>();
         eventRecorder = new EventRecorder();
     }
 
     @Override
     public void check(Slice slice, ConditionEvents events) {
-        graph.addEdges(SliceDependencies.of(slice, classesToSlicesMapping, predicate));
+        checkedSlices.add(slice);
     }
 
     @Override
     public void finish(ConditionEvents events) {
-        Graph.Cycles<Slice, Dependency> cycles = graph.findCycles();
-        if (cycles.maxNumberOfCyclesReached()) {
-            events.setInformationAboutNumberOfViolations(String.format(
-                    " >= %d times - the maximum number of cycles to detect has been reached; "
-                            + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
-                    cycles.size(), MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME));
+        addEdgesOfCheckedSlices();
+        if (new CycleConfiguration().isReportOneCyclePerComponentEnabled()) {
+            recordShortestCyclePerComponent(events);
+        } else {
+            recordAllCycles(events);
+        }
+        releaseResources();
+    }
+
+    /**
+     * Collecting the dependencies between the slices is usually the most expensive part of building the graph.
+     * The dependencies of each slice can be collected independently, so if configured, we collect them in parallel
+     * (and then add the edges in the original order of the slices). This is opt-in, since it calls the
+     * {@code ignoreDependency(..)} predicates of the rule concurrently.
+     */
+    private void addEdgesOfCheckedSlices() {
+        Stream<Slice> slices = new CycleConfiguration().isParallelEdgeCollectionEnabled()
+                ? checkedSlices.parallelStream()
+                : checkedSlices.stream();
+        slices.map(slice -> SliceDependencies.of(slice, classesToSlicesMapping, predicate))
+                .collect(toList())
+                .forEach(graph::addEdges);
+    }
+
+    private void recordShortestCyclePerComponent(ConditionEvents events) {
+        Graph.Cycles<Slice, Dependency> cycles = graph.findShortestCyclePerComponent();
+        if (!cycles.isEmpty()) {
+            events.setInformationAboutNumberOfViolations(CycleEvent.oneCyclePerComponentInformation(cycles.size(), "slices"));
         }
         for (Cycle<Slice, Dependency> cycle : cycles) {
             eventRecorder.record(cycle, events);
         }
-        releaseResources();
+    }
+
+    private void recordAllCycles(ConditionEvents events) {
+        AtomicInteger numberOfCycles = new AtomicInteger();
+        boolean maxNumberOfCyclesReached = graph.findCycles(cycle -> {
+            numberOfCycles.incrementAndGet();
+            eventRecorder.record(cycle, events);
+        });
+        if (maxNumberOfCyclesReached) {
+            events.setInformationAboutNumberOfViolations(CycleEvent.maxNumberOfCyclesReachedInformation(numberOfCycles.get()));
+        }
     }
 
     private void releaseResources() {
         classesToSlicesMapping = null;
         graph = null;
+        checkedSlices = null;
         eventRecorder = null;
     }
 
     private static class ClassesToSlicesMapping {
         private final Iterable<Slice> allSlices;
-        private Map<JavaClass, Slice> mapping;
+        private final Supplier<Map<JavaClass, Slice>> mapping = Suppliers.memoize(this::createMapping);
 
         private ClassesToSlicesMapping(Iterable<Slice> allSlices) {
             this.allSlices = allSlices;
@@ -111,16 +141,17 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         }
 
         private Map<JavaClass, Slice> mapping() {
-            if (mapping != null) {
-                return mapping;
-            }
+            return mapping.get();
+        }
+
+        private Map<JavaClass, Slice> createMapping() {
             ImmutableMap.Builder<JavaClass, Slice> result = ImmutableMap.builder();
             for (Slice slice : allSlices) {
                 for (JavaClass javaClass : slice) {
                     result.put(javaClass, slice);
                 }
             }
-            return mapping = result.build();
+            return result.build();
         }
 
         public boolean containsKey(JavaClass javaClass) {
@@ -168,9 +199,6 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     }
 
     private static class EventRecorder {
-        private static final String CYCLE_DETECTED_SECTION_INTRO = "Cycle detected: ";
-        private static final String DEPENDENCY_DETAILS_INDENT = Strings.repeat(" ", 4);
-
         private final CycleConfiguration cycleConfiguration = new CycleConfiguration();
 
         private EventRecorder() {
@@ -180,62 +208,7 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         }
 
         void record(Cycle<Slice, Dependency> cycle, ConditionEvents events) {
-            events.add(newEvent(cycle));
-        }
-
-        private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle) {
-            Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
-            String description = createDescription(descriptionsToEdges.keySet(), CYCLE_DETECTED_SECTION_INTRO.length());
-            String details = createDetails(descriptionsToEdges);
-            return new SimpleConditionEvent(cycle,
-                    false,
-                    CYCLE_DETECTED_SECTION_INTRO + description + lineSeparator() + details);
-        }
-
-        private Map<String, Edge<Slice, Dependency>> sortEdgesByDescription(Cycle<Slice, Dependency> cycle) {
-            LinkedList<Edge<Slice, Dependency>> edges = new LinkedList<>(cycle.getEdges());
-            Edge<Slice, Dependency> startEdge = cycle.getEdges().stream().min(comparing(input -> input.getFrom().getDescription())).get();
-            while (!edges.getFirst().equals(startEdge)) {
-                edges.addLast(edges.pollFirst());
-            }
-            Map<String, Edge<Slice, Dependency>> descriptionToEdge = new LinkedHashMap<>();
-            for (Edge<Slice, Dependency> edge : edges) {
-                descriptionToEdge.put(edge.getFrom().getDescription(), edge);
-            }
-            return descriptionToEdge;
-        }
-
-        private String createDescription(Collection<String> edgeDescriptions, int indent) {
-            List<String> descriptions = new ArrayList<>(edgeDescriptions);
-            descriptions.add(descriptions.get(0));
-            return Joiner.on(" -> " + lineSeparator() + Strings.repeat(" ", indent)).join(descriptions);
-        }
-
-        private String createDetails(Map<String, Edge<Slice, Dependency>> descriptionsToEdges) {
-            List<String> details = new ArrayList<>();
-            int sliceIndex = 0;
-            for (Map.Entry<String, Edge<Slice, Dependency>> edgeWithDescription : descriptionsToEdges.entrySet()) {
-                ++sliceIndex;
-                details.add(String.format("  %d. Dependencies of %s", sliceIndex, edgeWithDescription.getKey()));
-                details.addAll(dependenciesDescription(edgeWithDescription.getValue()));
-            }
-            return Joiner.on(lineSeparator()).join(details);
-        }
-
-        private List<String> dependenciesDescription(Edge<Slice, Dependency> edge) {
-            int maxDependencies = cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge();
-            List<Dependency> allDependencies = edge.getAttachments();
-            boolean tooManyDependenciesToDisplay = allDependencies.size() > maxDependencies;
-            List<Dependency> dependenciesToDisplay = tooManyDependenciesToDisplay ? allDependencies.subList(0, maxDependencies) : allDependencies;
-
-            List<String> result = dependenciesToDisplay.stream()
-                    .map(dependency -> DEPENDENCY_DETAILS_INDENT + "- " + dependency.getDescription())
-                    .collect(toCollection(ArrayList::new));
-            if (tooManyDependenciesToDisplay) {
-                result.add(DEPENDENCY_DETAILS_INDENT + String.format("(%d further dependencies have been omitted...)",
-                        allDependencies.size() - dependenciesToDisplay.size()));
-            }
-            return result;
+            events.add(new CycleEvent<>(cycle, Slice::getDescription, cycleConfiguration.getMaxNumberOfDependenciesToShowPerEdge()));
         }
     }
 }
@@ -23,10 +23,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -40,11 +45,12 @@ import com.tngtech.archunit.lang.ClassesTransformer;
 import com.tngtech.archunit.lang.syntax.PredicateAggregator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.PackageMatcher.TO_GROUPS;
 import static com.tngtech.archunit.core.domain.Dependency.toTargetClasses;
+import static java.util.stream.Collectors.groupingByConcurrent;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
 /**
  * Basic collection of {@link Slice} for tests of dependencies between different domain packages, e.g. to avoid cycles.
@@ -232,6 +238,10 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
         }
 
         private Slices createSlices(JavaClasses classes) {
+            if (sliceAssignment instanceof PackageMatchingSliceIdentifier) {
+                return new Slices(PackageMatchingPartitions.get(classes, (PackageMatchingSliceIdentifier) sliceAssignment));
+            }
+
             SliceBuilders sliceBuilders = new SliceBuilders(sliceAssignment);
             for (JavaClass clazz : classes) {
                 sliceBuilders.add(clazz);
@@ -320,21 +330,64 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
         }
 
         Set<Slice> build() {
-            return sliceBuilders.values().stream().map(Slice.Builder::build).collect(toSet());
+            return sliceBuilders.values().stream().map(Slice.Builder::build).collect(toImmutableSet());
         }
     }
 
+    /**
+     * The slices matching a package identifier only depend on the imported classes and the package identifier.
+     * Thus, we partition the classes only once per {@link JavaClasses} (by identity, e.g. as cached by the JUnit support)
+     * and package identifier, no matter how many slice rules use the same package identifier.
+     * Since matching package names is thread safe, the classes are partitioned in parallel.
+     */
+    private static class PackageMatchingPartitions {
+        private static final LoadingCache<JavaClasses, ConcurrentMap<String, Set<Slice>>> partitionsByPackageIdentifier =
+                CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<JavaClasses, ConcurrentMap<String, Set<Slice>>>() {
+                    @Override
+                    public ConcurrentMap<String, Set<Slice>> load(JavaClasses classes) {
+                        return new ConcurrentHashMap<>();
+                    }
+                });
+
+        static Set<Slice> get(JavaClasses classes, PackageMatchingSliceIdentifier sliceIdentifier) {
+            return partitionsByPackageIdentifier.getUnchecked(classes)
+                    .computeIfAbsent(sliceIdentifier.packageIdentifier, __ -> partition(classes, sliceIdentifier));
+        }
+
+        private static Set<Slice> partition(JavaClasses classes, PackageMatchingSliceIdentifier sliceIdentifier) {
+            return classes.parallelStream()
+                    .collect(groupingByConcurrent(javaClass -> sliceIdentifier.getIdentifierOf(javaClass).getParts()))
+                    .entrySet().stream()
+                    .filter(classesByIdentifier -> !classesByIdentifier.getKey().isEmpty())
+                    .map(classesByIdentifier -> Slice.Builder.from(classesByIdentifier.getKey(), sliceIdentifier)
+                            .addClasses(classesByIdentifier.getValue())
+                            .build())
+                    .collect(toImmutableSet());
+        }
+    }
+
+    /**
+     * Matching a package name against the package identifier only depends on the package name,
+     * so we remember the identifier for each package name
+     * (this is also used to look up the slice of each dependency, compare {@link Slice#getDependenciesFromSelf()}).
+     */
     private static class PackageMatchingSliceIdentifier implements SliceAssignment {
         private final String packageIdentifier;
+        private final PackageMatcher matcher;
+        private final ConcurrentMap<String, SliceIdentifier> identifierByPackageName = new ConcurrentHashMap<>();
 
         private PackageMatchingSliceIdentifier(String packageIdentifier) {
             this.packageIdentifier = checkNotNull(packageIdentifier);
+            this.matcher = PackageMatcher.of(packageIdentifier);
         }
 
         @Override
         public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
-            PackageMatcher matcher = PackageMatcher.of(packageIdentifier);
-            Optional<List<String>> result = matcher.match(javaClass.getPackageName()).map(TO_GROUPS);
+            return identifierByPackageName.computeIfAbsent(javaClass.getPackageName(), this::match);
+        }
+
+        private SliceIdentifier match(String packageName) {
+            Optional<List<String>> result = matcher.match(packageName).map(TO_GROUPS);
             List<String> parts = result.orElse(Collections.<String>emptyList());
             return parts.isEmpty() ? SliceIdentifier.ignore() : SliceIdentifier.of(parts);
         }
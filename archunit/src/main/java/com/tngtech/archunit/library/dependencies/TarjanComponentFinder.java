@@ -16,6 +16,7 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.google.common.primitives.Ints;
@@ -23,6 +24,7 @@ import com.google.common.primitives.Ints;
 import static com.tngtech.archunit.library.dependencies.TarjanGraph.LESS_THAN_TWO_VALUES;
 import static java.util.Arrays.sort;
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 
 /**
  * An implementation of Tarjan's algorithm to find strongly connected components
@@ -40,6 +42,8 @@ import static java.util.Comparator.comparing;
  * <br><br>
  * Also note that we always only need to find the strongly connected component containing the next unvisited node in ascending order.
  * Thus we do not need to find all strongly connected components, but only the next relevant one to apply Johnson's algorithm to.
+ * Only if we want to search independent components in parallel we will determine all of them up front
+ * (compare {@link #findAllNonTrivialStronglyConnectedComponents()}).
  */
 class TarjanComponentFinder {
     static final int[] NO_COMPONENT_FOUND = new int[0];
@@ -68,6 +72,23 @@ class TarjanComponentFinder {
         return nextComponent;
     }
 
+    /**
+     * Returns all non-trivial strongly connected components of the whole graph. Each returned array of node indexes
+     * is guaranteed to be sorted in ascending order and the components are sorted by their lowest node index.
+     */
+    List<int[]> findAllNonTrivialStronglyConnectedComponents() {
+        List<int[]> components = new ArrayList<>();
+        for (int j = 0; j < graph.getSize(); j++) {
+            if (graph.isVisitationIndexUnset(j)) {
+                components.addAll(findNonTrivialStronglyConnectedComponents(j, 0));
+            }
+        }
+        reset();
+        components.forEach(Arrays::sort);
+        components.sort(comparingInt(component -> component[0]));
+        return components;
+    }
+
     private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
         for (int j = lowerIndexBound; j < graph.getSize(); j++) {
             if (graph.isVisitationIndexUnset(j)) {
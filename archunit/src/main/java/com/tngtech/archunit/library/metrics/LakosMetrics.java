@@ -19,11 +19,9 @@ import java.util.Collection;
 import java.util.function.Function;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.Sets;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static java.util.Collections.singleton;
 
 /**
  * Calculates architecture metrics as defined by John Lakos in his book "Large-Scale C++ Software Design".<br>
@@ -60,7 +58,7 @@ public final class LakosMetrics {
     <T> LakosMetrics(Collection<MetricsComponent<T>> components, Function<T, Collection<T>> getDependencies) {
         MetricsComponentDependencyGraph<T> graph = MetricsComponentDependencyGraph.of(components, getDependencies);
         int cumulativeComponentDependency = components.stream()
-                .mapToInt(component -> 1 + getNumberOfTransitiveDependencies(graph, component))
+                .mapToInt(component -> 1 + graph.getNumberOfTransitiveDependenciesOf(component))
                 .sum();
         this.cumulativeComponentDependency = cumulativeComponentDependency;
         this.averageComponentDependency = ((double) cumulativeComponentDependency) / components.size();
@@ -69,11 +67,6 @@ public final class LakosMetrics {
                 ((double) cumulativeComponentDependency) / calculateCumulativeComponentDependencyOfBinaryTree(components.size());
     }
 
-    private <T> int getNumberOfTransitiveDependencies(MetricsComponentDependencyGraph<T> graph, MetricsComponent<T> component) {
-        Sets.SetView<MetricsComponent<T>> transitiveDependenciesWithoutSelf = Sets.difference(graph.getTransitiveDependenciesOf(component), singleton(component));
-        return transitiveDependenciesWithoutSelf.size();
-    }
-
     private int calculateCumulativeComponentDependencyOfBinaryTree(int treeSize) {
         int ccdOfBinaryTree = 0;
         int level = 1;
@@ -15,20 +15,29 @@
  */
 package com.tngtech.archunit.library.metrics;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.SetMultimap;
+import com.tngtech.archunit.base.Suppliers;
+
+import static java.util.Collections.emptySet;
 
 class MetricsComponentDependencyGraph<T> {
     private final SetMultimap<MetricsComponent<T>, MetricsComponent<T>> outgoingComponentDependencies;
     private final SetMultimap<MetricsComponent<T>, MetricsComponent<T>> incomingComponentDependencies;
+    private final Supplier<TransitiveClosure<T>> transitiveClosure = Suppliers.memoize(() -> new TransitiveClosure<>(this));
 
     private MetricsComponentDependencyGraph(Iterable<MetricsComponent<T>> components, Function<T, Collection<T>> getDependencies) {
         ImmutableSetMultimap<MetricsComponent<T>, MetricsComponent<T>> componentDependencies = createComponentDependencies(components, getDependencies);
@@ -77,27 +86,164 @@ class MetricsComponentDependencyGraph<T> {
     }
 
     Set<MetricsComponent<T>> getTransitiveDependenciesOf(MetricsComponent<T> origin) {
-        ImmutableSet.Builder<MetricsComponent<T>> transitiveDependencies = ImmutableSet.builder();
-        Set<MetricsComponent<T>> analyzedComponents = new HashSet<>();  // to avoid infinite recursion for cyclic dependencies
-        addTransitiveDependenciesFrom(origin, transitiveDependencies, analyzedComponents);
-        return transitiveDependencies.build();
+        return transitiveClosure.get().getTransitiveDependenciesOf(origin);
     }
 
-    private void addTransitiveDependenciesFrom(MetricsComponent<T> component, ImmutableSet.Builder<MetricsComponent<T>> transitiveDependencies, Set<MetricsComponent<T>> analyzedComponents) {
-        analyzedComponents.add(component);  // currently being analyzed
-        Set<MetricsComponent<T>> dependencyTargetsToRecurse = new HashSet<>();
-        for (MetricsComponent<T> dependency : getDirectDependenciesFrom(component)) {
-            transitiveDependencies.add(dependency);
-            dependencyTargetsToRecurse.add(dependency);
-        }
-        for (MetricsComponent<T> dependency : dependencyTargetsToRecurse) {
-            if (!analyzedComponents.contains(dependency)) {
-                addTransitiveDependenciesFrom(dependency, transitiveDependencies, analyzedComponents);
-            }
-        }
+    /**
+     * @return the number of components reachable from {@code origin}, not counting {@code origin} itself,
+     *         i.e. {@code getTransitiveDependenciesOf(origin)} without {@code origin} but without creating the respective {@link Set}
+     */
+    int getNumberOfTransitiveDependenciesOf(MetricsComponent<T> origin) {
+        return transitiveClosure.get().getNumberOfTransitiveDependenciesOf(origin);
     }
 
     static <T> MetricsComponentDependencyGraph<T> of(Iterable<MetricsComponent<T>> components, Function<T, Collection<T>> getDependencies) {
         return new MetricsComponentDependencyGraph<>(components, getDependencies);
     }
+
+    /**
+     * Calculates the transitive dependencies of all components at once. Components are assigned dense ids,
+     * strongly connected components are condensed with Tarjan's algorithm and then the reachable component ids of each
+     * strongly connected component are collected into a {@link BitSet} in reverse topological order,
+     * i.e. the {@link BitSet BitSets} of all dependency targets are always complete when they are merged.
+     * Since all members of one strongly connected component reach exactly the same components, each {@link BitSet} is shared.
+     */
+    private static class TransitiveClosure<T> {
+        private final Map<MetricsComponent<T>, Integer> idsByComponent = new HashMap<>();
+        private final List<MetricsComponent<T>> componentsById = new ArrayList<>();
+        private final int[][] successorIdsById;
+        private final BitSet[] reachableIdsById;
+
+        TransitiveClosure(MetricsComponentDependencyGraph<T> graph) {
+            for (MetricsComponent<T> component : graph.outgoingComponentDependencies.keySet()) {
+                idOf(component);
+            }
+            for (MetricsComponent<T> component : graph.incomingComponentDependencies.keySet()) {
+                idOf(component);
+            }
+            successorIdsById = new int[componentsById.size()][];
+            for (int id = 0; id < componentsById.size(); id++) {
+                successorIdsById[id] = graph.getDirectDependenciesFrom(componentsById.get(id)).stream().mapToInt(idsByComponent::get).toArray();
+            }
+            reachableIdsById = new BitSet[componentsById.size()];
+            new StronglyConnectedComponents().forEachInReverseTopologicalOrder(this::addReachableIds);
+        }
+
+        private void idOf(MetricsComponent<T> component) {
+            if (!idsByComponent.containsKey(component)) {
+                idsByComponent.put(component, componentsById.size());
+                componentsById.add(component);
+            }
+        }
+
+        private void addReachableIds(int[] memberIds) {
+            BitSet reachableIds = new BitSet(componentsById.size());
+            boolean cyclic = memberIds.length > 1;
+            for (int memberId : memberIds) {
+                for (int successorId : successorIdsById[memberId]) {
+                    BitSet reachableFromSuccessor = reachableIdsById[successorId];
+                    if (reachableFromSuccessor != null) {
+                        reachableIds.set(successorId);
+                        reachableIds.or(reachableFromSuccessor);
+                    }
+                }
+            }
+            if (cyclic) {
+                for (int memberId : memberIds) {
+                    reachableIds.set(memberId);
+                }
+            }
+            for (int memberId : memberIds) {
+                reachableIdsById[memberId] = reachableIds;
+            }
+        }
+
+        Set<MetricsComponent<T>> getTransitiveDependenciesOf(MetricsComponent<T> origin) {
+            Integer id = idsByComponent.get(origin);
+            if (id == null) {
+                return emptySet();
+            }
+            ImmutableSet.Builder<MetricsComponent<T>> result = ImmutableSet.builder();
+            BitSet reachableIds = reachableIdsById[id];
+            for (int reachableId = reachableIds.nextSetBit(0); reachableId >= 0; reachableId = reachableIds.nextSetBit(reachableId + 1)) {
+                result.add(componentsById.get(reachableId));
+            }
+            return result.build();
+        }
+
+        int getNumberOfTransitiveDependenciesOf(MetricsComponent<T> origin) {
+            Integer id = idsByComponent.get(origin);
+            if (id == null) {
+                return 0;
+            }
+            BitSet reachableIds = reachableIdsById[id];
+            return reachableIds.cardinality() - (reachableIds.get(id) ? 1 : 0);
+        }
+
+        /**
+         * Iterative version of Tarjan's algorithm, so deep dependency chains cannot overflow the stack.
+         * Tarjan's algorithm completes each strongly connected component only after all components it depends on.
+         */
+        private class StronglyConnectedComponents {
+            private final int[] index = new int[successorIdsById.length];
+            private final int[] lowLink = new int[successorIdsById.length];
+            private final boolean[] onStack = new boolean[successorIdsById.length];
+            private final int[] stack = new int[successorIdsById.length];
+            private int stackSize = 0;
+            private int nextIndex = 1;
+
+            void forEachInReverseTopologicalOrder(Consumer<int[]> action) {
+                int[] callStack = new int[successorIdsById.length];
+                int[] nextSuccessor = new int[successorIdsById.length];
+                for (int root = 0; root < successorIdsById.length; root++) {
+                    if (index[root] != 0) {
+                        continue;
+                    }
+                    int callStackSize = 0;
+                    callStack[callStackSize++] = root;
+                    visit(root);
+                    while (callStackSize > 0) {
+                        int current = callStack[callStackSize - 1];
+                        if (nextSuccessor[current] < successorIdsById[current].length) {
+                            int successor = successorIdsById[current][nextSuccessor[current]++];
+                            if (index[successor] == 0) {
+                                visit(successor);
+                                callStack[callStackSize++] = successor;
+                            } else if (onStack[successor]) {
+                                lowLink[current] = Math.min(lowLink[current], index[successor]);
+                            }
+                        } else {
+                            callStackSize--;
+                            if (callStackSize > 0) {
+                                int parent = callStack[callStackSize - 1];
+                                lowLink[parent] = Math.min(lowLink[parent], lowLink[current]);
+                            }
+                            if (lowLink[current] == index[current]) {
+                                action.accept(popComponentOf(current));
+                            }
+                        }
+                    }
+                }
+            }
+
+            private void visit(int id) {
+                index[id] = nextIndex;
+                lowLink[id] = nextIndex;
+                nextIndex++;
+                stack[stackSize++] = id;
+                onStack[id] = true;
+            }
+
+            private int[] popComponentOf(int rootId) {
+                int start = stackSize;
+                do {
+                    start--;
+                    onStack[stack[start]] = false;
+                } while (stack[start] != rootId);
+                int[] memberIds = Arrays.copyOfRange(stack, start, stackSize);
+                stackSize = start;
+                return memberIds;
+            }
+        }
+    }
 }
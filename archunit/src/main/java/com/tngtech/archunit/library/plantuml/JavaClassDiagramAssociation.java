@@ -15,28 +15,48 @@
  */
 package com.tngtech.archunit.library.plantuml;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.base.PackageMatcher;
 import com.tngtech.archunit.core.domain.JavaClass;
 
-import static com.google.common.collect.Iterables.getOnlyElement;
 import static java.util.stream.Collectors.toCollection;
 
+/**
+ * Associates {@link JavaClass JavaClasses} with the components of a {@link PlantUmlDiagram}. All stereotypes are
+ * compiled to {@link PackageMatcher PackageMatchers} once, the components matching a package are memoized
+ * per package name and the allowed dependencies between components are precomputed as a matrix of component ids.
+ * Thus checking a dependency boils down to two lookups and a bit test.
+ */
 class JavaClassDiagramAssociation {
-    private final Set<AssociatedComponent> components;
+    private final List<AssociatedComponent> components;
+    private final BitSet[] allowedTargetComponentIdsById;
+    private final ConcurrentMap<String, BitSet> componentIdsByPackageName = new ConcurrentHashMap<>();
 
     JavaClassDiagramAssociation(PlantUmlDiagram diagram) {
-        ImmutableSet.Builder<AssociatedComponent> components = ImmutableSet.builder();
         validateStereotypes(diagram);
+        Map<PlantUmlComponent, Integer> componentIds = new HashMap<>();
+        ImmutableList.Builder<AssociatedComponent> components = ImmutableList.builder();
         for (PlantUmlComponent component : diagram.getAllComponents()) {
-            components.add(new AssociatedComponent(component));
+            if (!componentIds.containsKey(component)) {
+                int id = componentIds.size();
+                componentIds.put(component, id);
+                components.add(new AssociatedComponent(id, component));
+            }
         }
         this.components = components.build();
+        this.allowedTargetComponentIdsById = createAllowedTargetComponentIds(componentIds);
     }
 
     private void validateStereotypes(PlantUmlDiagram plantUmlDiagram) {
@@ -51,16 +71,28 @@ class JavaClassDiagramAssociation {
         }
     }
 
+    private BitSet[] createAllowedTargetComponentIds(Map<PlantUmlComponent, Integer> componentIds) {
+        BitSet[] result = new BitSet[components.size()];
+        for (int id = 0; id < components.size(); id++) {
+            result[id] = new BitSet(components.size());
+            result[id].set(id);
+            for (PlantUmlComponent target : components.get(id).asPlantUmlComponent().getDependencies()) {
+                result[id].set(componentIds.get(target));
+            }
+        }
+        return result;
+    }
+
     Set<String> getTargetPackageIdentifiers(final JavaClass javaClass) {
         ImmutableSet.Builder<String> result = ImmutableSet.builder();
-        for (PlantUmlComponent target : getComponentOf(javaClass).getDependencies()) {
+        for (PlantUmlComponent target : getComponentOf(javaClass).asPlantUmlComponent().getDependencies()) {
             result.addAll(getPackageIdentifiersFromComponentOf(target));
         }
         return result.build();
     }
 
     Set<String> getPackageIdentifiersFromComponentOf(JavaClass javaClass) {
-        return getPackageIdentifiersFromComponentOf(getComponentOf(javaClass));
+        return getPackageIdentifiersFromComponentOf(getComponentOf(javaClass).asPlantUmlComponent());
     }
 
     private Set<String> getPackageIdentifiersFromComponentOf(PlantUmlComponent component) {
@@ -71,46 +103,62 @@ class JavaClassDiagramAssociation {
         return result.build();
     }
 
-    private PlantUmlComponent getComponentOf(final JavaClass javaClass) {
-        Set<PlantUmlComponent> associatedComponents = getAssociatedComponents(javaClass);
+    /**
+     * @return {@code true}, if the package of {@code target} is contained in the component of {@code origin} or
+     *         any component the component of {@code origin} may depend on according to the diagram
+     * @throws ComponentIntersectionException if {@code origin} is contained in more than one component
+     * @throws IllegalStateException if {@code origin} is not contained in any component
+     */
+    boolean isDependencyAllowed(JavaClass origin, JavaClass target) {
+        return getComponentIdsOf(target).intersects(allowedTargetComponentIdsById[getComponentOf(origin).id]);
+    }
+
+    private AssociatedComponent getComponentOf(final JavaClass javaClass) {
+        BitSet associatedComponentIds = getComponentIdsOf(javaClass);
 
-        if (associatedComponents.size() > 1) {
+        if (associatedComponentIds.cardinality() > 1) {
             throw new ComponentIntersectionException(
                     String.format("Class %s may not be contained in more than one component, but is contained in [%s]",
                             javaClass.getName(),
-                            Joiner.on(", ").join(getComponentNames(associatedComponents))));
-        } else if (associatedComponents.isEmpty()) {
+                            Joiner.on(", ").join(getComponentNames(associatedComponentIds))));
+        } else if (associatedComponentIds.isEmpty()) {
             throw new IllegalStateException(String.format("Class %s is not contained in any component", javaClass.getName()));
         }
 
-        return getOnlyElement(associatedComponents);
+        return components.get(associatedComponentIds.nextSetBit(0));
     }
 
     boolean contains(JavaClass javaClass) {
-        return !getAssociatedComponents(javaClass).isEmpty();
+        return !getComponentIdsOf(javaClass).isEmpty();
     }
 
-    private Set<PlantUmlComponent> getAssociatedComponents(JavaClass javaClass) {
-        ImmutableSet.Builder<PlantUmlComponent> result = ImmutableSet.builder();
+    private BitSet getComponentIdsOf(JavaClass javaClass) {
+        return componentIdsByPackageName.computeIfAbsent(javaClass.getPackageName(), this::createComponentIdsOf);
+    }
+
+    private BitSet createComponentIdsOf(String packageName) {
+        BitSet result = new BitSet(components.size());
         for (AssociatedComponent component : components) {
-            if (component.contains(javaClass)) {
-                result.add(component.asPlantUmlComponent());
+            if (component.contains(packageName)) {
+                result.set(component.id);
             }
         }
-        return result.build();
+        return result;
     }
 
-    private Set<String> getComponentNames(Set<PlantUmlComponent> associatedComponents) {
-        return associatedComponents.stream()
-                .map(associatedComponent -> associatedComponent.getComponentName().asString())
+    private Set<String> getComponentNames(BitSet associatedComponentIds) {
+        return associatedComponentIds.stream()
+                .mapToObj(id -> components.get(id).asPlantUmlComponent().getComponentName().asString())
                 .collect(toCollection(TreeSet::new));
     }
 
     private static class AssociatedComponent {
+        private final int id;
         private final PlantUmlComponent component;
         private final Set<PackageMatcher> packageMatchers;
 
-        private AssociatedComponent(PlantUmlComponent component) {
+        private AssociatedComponent(int id, PlantUmlComponent component) {
+            this.id = id;
             this.component = component;
             ImmutableSet.Builder<PackageMatcher> packageMatchers = ImmutableSet.builder();
             for (Stereotype stereotype : component.getStereotypes()) {
@@ -119,8 +167,8 @@ class JavaClassDiagramAssociation {
             this.packageMatchers = packageMatchers.build();
         }
 
-        private boolean contains(JavaClass javaClass) {
-            return packageMatchers.stream().anyMatch(packageMatcher -> packageMatcher.matches(javaClass.getPackageName()));
+        private boolean contains(String packageName) {
+            return packageMatchers.stream().anyMatch(packageMatcher -> packageMatcher.matches(packageName));
         }
 
         PlantUmlComponent asPlantUmlComponent() {
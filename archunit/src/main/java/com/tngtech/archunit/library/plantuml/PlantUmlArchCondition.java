@@ -25,7 +25,6 @@ import java.util.function.Function;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.FluentIterable;
-import com.google.common.collect.Sets;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.PackageMatcher;
@@ -40,7 +39,7 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_ORIGIN_CLASS;
 import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_TARGET_CLASS;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesInAnyPackage;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependenciesWhere;
 import static java.util.Collections.singleton;
 
 /**
@@ -90,6 +89,7 @@ import static java.util.Collections.singleton;
 public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
     private final DescribedPredicate<Dependency> ignorePredicate;
     private final JavaClassDiagramAssociation javaClassDiagramAssociation;
+    private final ArchCondition<JavaClass> delegate;
 
     private PlantUmlArchCondition(
             String description,
@@ -99,6 +99,8 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
         super(description);
         this.ignorePredicate = ignorePredicate;
         this.javaClassDiagramAssociation = javaClassDiagramAssociation;
+        this.delegate = onlyHaveDependenciesWhere(new AllowedByDiagramPredicate(javaClassDiagramAssociation))
+                .ignoreDependency(ignorePredicate);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -139,14 +141,6 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
             return;
         }
 
-        String[] allAllowedTargets = Sets.union(
-                javaClassDiagramAssociation.getPackageIdentifiersFromComponentOf(item),
-                javaClassDiagramAssociation.getTargetPackageIdentifiers(item)
-        ).toArray(new String[0]);
-
-        ArchCondition<JavaClass> delegate = onlyHaveDependenciesInAnyPackage(allAllowedTargets)
-                .ignoreDependency(ignorePredicate);
-
         delegate.check(item, events);
     }
 
@@ -291,4 +285,18 @@ public class PlantUmlArchCondition extends ArchCondition<JavaClass> {
             }
         }
     }
+
+    private static class AllowedByDiagramPredicate extends DescribedPredicate<Dependency> {
+        private final JavaClassDiagramAssociation javaClassDiagramAssociation;
+
+        AllowedByDiagramPredicate(JavaClassDiagramAssociation javaClassDiagramAssociation) {
+            super("target is allowed by diagram");
+            this.javaClassDiagramAssociation = javaClassDiagramAssociation;
+        }
+
+        @Override
+        public boolean test(Dependency input) {
+            return javaClassDiagramAssociation.isDependencyAllowed(input.getOriginClass(), input.getTargetClass());
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.tngtech.archunit.base;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -11,6 +13,9 @@ import com.tngtech.java.junit.dataprovider.UseDataProvider;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import static com.tngtech.archunit.base.DescribedPredicate.EvaluationCost.CHEAP;
+import static com.tngtech.archunit.base.DescribedPredicate.EvaluationCost.DEFAULT;
+import static com.tngtech.archunit.base.DescribedPredicate.EvaluationCost.EXPENSIVE;
 import static com.tngtech.archunit.base.DescribedPredicate.allElements;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysTrue;
@@ -273,6 +278,51 @@ public class DescribedPredicateTest {
                 .accepts(ImmutableList.of());
     }
 
+    @Test
+    public void and_and_or_evaluate_cheap_predicates_first_but_keep_the_description() {
+        List<String> evaluated = new ArrayList<>();
+        DescribedPredicate<Object> expensive = recording("expensive", evaluated, false).withEvaluationCost(EXPENSIVE);
+        DescribedPredicate<Object> cheap = recording("cheap", evaluated, false).withEvaluationCost(CHEAP);
+
+        assertThat(expensive.and(cheap)).rejects(new Object()).hasDescription("expensive and cheap");
+        assertThat(evaluated).containsExactly("cheap");
+
+        evaluated.clear();
+        assertThat(expensive.or(cheap)).rejects(new Object()).hasDescription("expensive or cheap");
+        assertThat(evaluated).containsExactly("cheap", "expensive");
+    }
+
+    @Test
+    public void predicates_without_evaluation_cost_are_never_evaluated_before_predicates_declared_earlier() {
+        List<String> evaluated = new ArrayList<>();
+        DescribedPredicate<Object> expensive = recording("expensive", evaluated, false).withEvaluationCost(EXPENSIVE);
+        DescribedPredicate<Object> unknown = recording("unknown", evaluated, false);
+
+        assertThat(expensive.and(unknown)).rejects(new Object());
+        assertThat(evaluated).containsExactly("expensive");
+    }
+
+    @Test
+    public void evaluation_cost_is_propagated() {
+        DescribedPredicate<Object> cheap = alwaysTrue().withEvaluationCost(CHEAP);
+        DescribedPredicate<Object> expensive = alwaysTrue().withEvaluationCost(EXPENSIVE);
+
+        assertThat(alwaysTrue().getEvaluationCost()).isEqualTo(DEFAULT);
+        assertThat(cheap.as("changed").getEvaluationCost()).isEqualTo(CHEAP);
+        assertThat(not(cheap).getEvaluationCost()).isEqualTo(CHEAP);
+        assertThat(cheap.and(cheap).getEvaluationCost()).isEqualTo(CHEAP);
+        assertThat(cheap.or(alwaysTrue()).getEvaluationCost()).isEqualTo(DEFAULT);
+        assertThat(cheap.and(expensive).getEvaluationCost()).isEqualTo(EXPENSIVE);
+        assertThat(cheap.onResultOf(constant(1)).getEvaluationCost()).isEqualTo(DEFAULT);
+    }
+
+    private static DescribedPredicate<Object> recording(String description, List<String> evaluated, boolean result) {
+        return describe(description, input -> {
+            evaluated.add(description);
+            return result;
+        });
+    }
+
     private Function<Object, Integer> constant(final int integer) {
         return input -> integer;
     }
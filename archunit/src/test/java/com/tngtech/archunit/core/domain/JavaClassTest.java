@@ -90,6 +90,7 @@ import static com.tngtech.archunit.core.domain.TestUtils.importPackagesOf;
 import static com.tngtech.archunit.core.domain.TestUtils.simulateCall;
 import static com.tngtech.archunit.core.domain.properties.HasName.AndFullName.Predicates.fullNameMatching;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
+import static com.tngtech.archunit.core.domain.properties.HasName.Utils.namesOf;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatCodeUnit;
 import static com.tngtech.archunit.testutil.Assertions.assertThatDependencies;
@@ -105,6 +106,7 @@ import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static java.util.Collections.singletonList;
 import static java.util.regex.Pattern.quote;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -301,6 +303,24 @@ public class JavaClassTest {
                         Object.class.getName());
     }
 
+    @Test
+    public void isAssignableTo_and_isAssignableFrom_by_name_agree_with_reflection() {
+        JavaClasses classes = importClasses(ArrayList.class, AbstractList.class, List.class, Collection.class, Iterable.class, Serializable.class, String.class);
+
+        for (JavaClass from : classes) {
+            for (JavaClass to : classes) {
+                boolean expected = to.reflect().isAssignableFrom(from.reflect());
+                assertThat(from.isAssignableTo(to.getName()))
+                        .as("%s is assignable to %s", from.getSimpleName(), to.getSimpleName())
+                        .isEqualTo(expected);
+                assertThat(to.isAssignableFrom(from.getName()))
+                        .as("%s is assignable from %s", to.getSimpleName(), from.getSimpleName())
+                        .isEqualTo(expected);
+            }
+        }
+        assertThat(classes.get(ArrayList.class).isAssignableTo("not.Imported")).as("assignable to unknown type").isFalse();
+    }
+
     @Test
     public void isAnnotatedWith_type() {
         assertThat(importClassWithContext(Parent.class).isAnnotatedWith(SomeAnnotation.class))
@@ -372,6 +392,14 @@ public class JavaClassTest {
         assertThat(javaClass.isMetaAnnotatedWith(Deprecated.class)).isFalse();
         assertThat(javaClass.isMetaAnnotatedWith(Retention.class)).isTrue();
         assertThat(javaClass.isMetaAnnotatedWith(MetaAnnotationWithCyclicAnnotation.class)).isTrue();
+        assertThat(javaClass.isMetaAnnotatedWith(annotationTypeNamed(Deprecated.class))).isFalse();
+        assertThat(javaClass.isMetaAnnotatedWith(annotationTypeNamed(Retention.class))).isTrue();
+        assertThat(javaClass.isMetaAnnotatedWith(annotationTypeNamed(MetaAnnotationWithCyclicAnnotation.class))).isTrue();
+    }
+
+    private static DescribedPredicate<JavaAnnotation<?>> annotationTypeNamed(Class<?> annotationType) {
+        return DescribedPredicate.describe("annotation type " + annotationType.getName(),
+                annotation -> annotation.getRawType().getName().equals(annotationType.getName()));
     }
 
     @Test
@@ -453,6 +481,30 @@ public class JavaClassTest {
         assertThat(clazz.tryGetCodeUnitWithParameterTypeNames(CONSTRUCTOR_NAME, Collections.emptyList())).isEmpty();
     }
 
+    @Test
+    public void finds_every_member_of_class_with_many_overloaded_members() {
+        JavaClass clazz = importClassWithContext(StringBuilder.class);
+
+        for (JavaMethod method : clazz.getMethods()) {
+            List<String> parameterTypeNames = namesOf(method.getRawParameterTypes());
+            Set<JavaMethod> candidates = clazz.getMethods().stream()
+                    .filter(candidate -> candidate.getName().equals(method.getName()) && namesOf(candidate.getRawParameterTypes()).equals(parameterTypeNames))
+                    .collect(toSet());
+
+            JavaMethod found = clazz.tryGetMethod(method.getName(), parameterTypeNames.toArray(new String[0])).get();
+            assertThat(candidates).contains(found);
+            assertThat(clazz.tryGetCodeUnitWithParameterTypeNames(method.getName(), parameterTypeNames)).contains(found);
+        }
+        for (JavaConstructor constructor : clazz.getConstructors()) {
+            assertThat(clazz.tryGetConstructor(namesOf(constructor.getRawParameterTypes()).toArray(new String[0]))).contains(constructor);
+        }
+        for (JavaField field : clazz.getFields()) {
+            assertThat(clazz.tryGetField(field.getName())).contains(field);
+        }
+        assertThat(clazz.tryGetMethod("append", "not.Existing")).isEmpty();
+        assertThat(clazz.tryGetField("notExisting")).isEmpty();
+    }
+
     @Test
     public void getMethod_returns_non_synthetic_method_if_method_name_and_parameters_are_ambiguous() {
         class Parent {
@@ -489,6 +541,60 @@ public class JavaClassTest {
         assertThat(javaClass.getDirectDependenciesToSelf()).doNotHave(anyDependency().fromClassEquivalentTo(ClassWithSelfReferences.class));
     }
 
+    @Test
+    public void direct_dependencies_from_self_and_to_self_are_consistent() {
+        JavaClasses classes = importPackagesOf(getClass());
+
+        for (JavaClass javaClass : classes) {
+            for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                assertThat(dependency.getOriginClass()).isSameAs(javaClass);
+                assertThat(dependency.getTargetClass().getDirectDependenciesToSelf())
+                        .as("dependencies to " + dependency.getTargetClass().getName())
+                        .contains(dependency);
+            }
+            for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+                assertThat(dependency.getTargetClass()).isSameAs(javaClass);
+                assertThat(dependency.getOriginClass().getDirectDependenciesFromSelf())
+                        .as("dependencies from " + dependency.getOriginClass().getName())
+                        .contains(dependency);
+            }
+        }
+    }
+
+    @Test
+    public void direct_dependencies_to_self_are_the_same_if_first_requested_concurrently() {
+        JavaClasses sequentialClasses = importPackagesOf(getClass());
+        JavaClasses concurrentClasses = importPackagesOf(getClass());
+
+        Map<String, Set<String>> concurrentDependencies = concurrentClasses.stream().parallel()
+                .collect(toMap(JavaClass::getName, javaClass -> descriptionsOf(javaClass.getDirectDependenciesToSelf())));
+
+        for (JavaClass javaClass : sequentialClasses) {
+            assertThat(concurrentDependencies.get(javaClass.getName()))
+                    .as("dependencies to " + javaClass.getName())
+                    .isEqualTo(descriptionsOf(javaClass.getDirectDependenciesToSelf()));
+        }
+    }
+
+    private static Set<String> descriptionsOf(Set<Dependency> dependencies) {
+        return dependencies.stream().map(Dependency::getDescription).collect(toSet());
+    }
+
+    @Test
+    public void direct_dependencies_from_self_and_to_self_support_contains() {
+        JavaClasses classes = importClasses(AAccessingB.class, B.class);
+        JavaClass origin = classes.get(AAccessingB.class);
+        JavaClass target = classes.get(B.class);
+        Dependency dependency = origin.getDirectDependenciesFromSelf().stream()
+                .filter(candidate -> candidate.getTargetClass().equals(target))
+                .findFirst().get();
+
+        assertThat(origin.getDirectDependenciesFromSelf().contains(dependency)).as("dependencies from origin contain dependency").isTrue();
+        assertThat(target.getDirectDependenciesToSelf().contains(dependency)).as("dependencies to target contain dependency").isTrue();
+        assertThat(target.getDirectDependenciesFromSelf().contains(dependency)).as("dependencies from target contain dependency").isFalse();
+        assertThat(origin.getDirectDependenciesToSelf().contains(dependency)).as("dependencies to origin contain dependency").isFalse();
+    }
+
     @Test
     public void direct_dependencies_from_self_by_accesses() {
         JavaClass javaClass = importClasses(AAccessingB.class, B.class).get(AAccessingB.class);
@@ -0,0 +1,104 @@
+package com.tngtech.archunit.core.domain;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+
+public class PredicateResultsTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void memoizes_predicate_results_per_class_if_enabled() {
+        ArchConfiguration.get().setMemoizePredicateResultsEnabled(true);
+        JavaClasses classes = new ClassFileImporter().importClasses(String.class, Serializable.class);
+        AtomicInteger evaluations = new AtomicInteger();
+        Predicate<JavaClass> isString = countingEvaluations(evaluations, String.class);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(PredicateResults.test(classes.get(String.class), "key", isString)).isTrue();
+            assertThat(PredicateResults.test(classes.get(Serializable.class), "key", isString)).isFalse();
+        }
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void memoizes_results_per_predicate_key() {
+        ArchConfiguration.get().setMemoizePredicateResultsEnabled(true);
+        JavaClass javaClass = new ClassFileImporter().importClass(String.class);
+
+        assertThat(PredicateResults.test(javaClass, "always true", input -> true)).isTrue();
+        assertThat(PredicateResults.test(javaClass, "always false", input -> false)).isFalse();
+        assertThat(PredicateResults.test(javaClass, "always true", input -> false)).as("memoized result").isTrue();
+    }
+
+    @Test
+    public void evaluates_predicate_every_time_if_disabled() {
+        JavaClass javaClass = new ClassFileImporter().importClass(String.class);
+        AtomicInteger evaluations = new AtomicInteger();
+        Predicate<JavaClass> isString = countingEvaluations(evaluations, String.class);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(PredicateResults.test(javaClass, "key", isString)).isTrue();
+        }
+
+        assertThat(evaluations.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void built_in_package_predicates_yield_the_same_results_when_memoized() {
+        ArchConfiguration.get().setMemoizePredicateResultsEnabled(true);
+        JavaClasses classes = new ClassFileImporter().importClasses(String.class, PredicateResultsTest.class);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(resideInAPackage("java..")).accepts(classes.get(String.class)).rejects(classes.get(PredicateResultsTest.class));
+            assertThat(resideInAPackage("..domain..")).accepts(classes.get(PredicateResultsTest.class)).rejects(classes.get(String.class));
+        }
+    }
+
+    @Test
+    public void annotation_predicates_of_rules_are_evaluated_once_per_class() {
+        ArchConfiguration.get().setMemoizePredicateResultsEnabled(true);
+        JavaClasses classes = new ClassFileImporter().importClasses(AnnotatedClass.class, NotAnnotatedClass.class);
+
+        assertThat(classes().that().areAnnotatedWith(Deprecated.class).should().haveSimpleName(AnnotatedClass.class.getSimpleName())
+                .evaluate(classes).hasViolation()).isFalse();
+        assertThat(classes().that().areNotAnnotatedWith(Deprecated.class.getName()).should().haveSimpleName(NotAnnotatedClass.class.getSimpleName())
+                .evaluate(classes).hasViolation()).isFalse();
+
+        AtomicInteger evaluations = new AtomicInteger();
+        Predicate<JavaClass> annotatedWithDeprecated = input -> {
+            evaluations.incrementAndGet();
+            return input.isAnnotatedWith(Deprecated.class);
+        };
+        String predicateKey = "annotated with " + Deprecated.class.getName();
+        assertThat(PredicateResults.test(classes.get(AnnotatedClass.class), predicateKey, annotatedWithDeprecated)).isTrue();
+        assertThat(PredicateResults.test(classes.get(NotAnnotatedClass.class), predicateKey, annotatedWithDeprecated)).isFalse();
+        assertThat(evaluations.get()).as("evaluations after both rules").isZero();
+    }
+
+    private static Predicate<JavaClass> countingEvaluations(AtomicInteger evaluations, Class<?> expectedType) {
+        return input -> {
+            evaluations.incrementAndGet();
+            return input.isEquivalentTo(expectedType);
+        };
+    }
+
+    @Deprecated
+    private static class AnnotatedClass {
+    }
+
+    private static class NotAnnotatedClass {
+    }
+}
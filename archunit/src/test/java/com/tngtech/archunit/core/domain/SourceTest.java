@@ -1,7 +1,6 @@
 package com.tngtech.archunit.core.domain;
 
 import java.io.IOException;
-import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.MessageDigest;
@@ -14,8 +13,10 @@ import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Source.Checksum;
 import com.tngtech.archunit.core.domain.Source.Md5sum;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -32,6 +33,7 @@ import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @RunWith(DataProviderRunner.class)
 public class SourceTest {
@@ -42,10 +44,10 @@ public class SourceTest {
 
     @Test
     public void source_file_name() {
-        Source source = new Source(uriOf(Object.class), Optional.of("SomeClass.java"), false);
+        Source source = new Source(uriOf(Object.class), Optional.of("SomeClass.java"), Md5sum.DISABLED);
         assertThat(source.getFileName()).as("source file name").contains("SomeClass.java");
 
-        source = new Source(uriOf(Object.class), Optional.<String>empty(), false);
+        source = new Source(uriOf(Object.class), Optional.<String>empty(), Md5sum.DISABLED);
         assertThat(source.getFileName()).as("source file name").isEmpty();
     }
 
@@ -65,7 +67,7 @@ public class SourceTest {
     @Test
     @UseDataProvider("expectedHexCodes")
     public void toHex_works(byte[] input, String expectedHexString) {
-        assertThat(Md5sum.toHex(input)).as("Bytes").isEqualTo(expectedHexString);
+        assertThat(Checksum.toHex(input)).as("Bytes").isEqualTo(expectedHexString);
     }
 
     @DataProvider
@@ -79,7 +81,7 @@ public class SourceTest {
         Source source = newSource(url);
 
         assertThat(source.getUri()).as("source URI").isEqualTo(url.toURI());
-        assertThat(source.getMd5sum().asBytes()).isEqualTo(expectedMd5BytesAt(url));
+        assertThat(source.getChecksum().asBytes()).isEqualTo(expectedMd5BytesAt(url));
     }
 
     @Test
@@ -91,14 +93,14 @@ public class SourceTest {
         assertThat(source).as("source").isEqualTo(equalSource);
         assertThat(source.hashCode()).as("hashcode").isEqualTo(equalSource.hashCode());
         assertThat(source).as("source").isNotEqualTo(newSource(urlOf(Object.class)));
-        String expectedToString = String.format("%s [md5='%s']", url, Md5sum.toHex(expectedMd5BytesAt(url)));
+        String expectedToString = String.format("%s [md5='%s']", url, Checksum.toHex(expectedMd5BytesAt(url)));
         assertThat(source.toString()).as("source.toString()").isEqualTo(expectedToString);
     }
 
     @DataProvider
     public static Object[][] equalMd5Sums() {
         return $$(
-                $(Md5sum.UNDETERMINED, Md5sum.UNDETERMINED),
+                $(Md5sum.DISABLED, Md5sum.DISABLED),
                 $(Md5sum.NOT_SUPPORTED, Md5sum.NOT_SUPPORTED),
                 $(md5sumOf("anything"), md5sumOf("anything")));
     }
@@ -113,7 +115,7 @@ public class SourceTest {
     @DataProvider
     public static List<List<?>> unequalMd5Sums() {
         return createUnequalTestCasesFor(
-                Md5sum.UNDETERMINED,
+                Md5sum.DISABLED,
                 Md5sum.NOT_SUPPORTED,
                 md5sumOf("anything"),
                 md5sumOf("totallyDifferent"));
@@ -143,27 +145,31 @@ public class SourceTest {
     }
 
     @Test
-    public void compensates_error_on_md5_calculation() throws Exception {
-        Source source = newSource(new URI("bummer"));
+    @SuppressWarnings("deprecation")
+    public void exposes_checksum_as_md5sum_for_compatibility() throws Exception {
+        Source source = newSource(urlOf(getClass()));
 
-        assertThat(source.getMd5sum()).isEqualTo(Md5sum.UNDETERMINED);
+        assertThat(source.getMd5sum()).isSameAs(source.getChecksum());
     }
 
     @Test
-    public void disables_md5_calculation_via_parameter() throws Exception {
-        Source source = new Source(uriOf(getClass()), Optional.of("any.java"), false);
-        assertThat(source.getMd5sum()).isEqualTo(Md5sum.DISABLED);
+    public void computes_checksum_with_given_algorithm() {
+        byte[] bytes = "anything".getBytes(UTF_8);
 
-        source = new Source(uriOf(getClass()), Optional.of("any.java"), true);
-        assertThat(source.getMd5sum().asBytes()).isEqualTo(expectedMd5BytesAt(source.getUri().toURL()));
+        assertThat(Md5sum.of(bytes, ChecksumAlgorithm.CRC32C).asBytes()).isEqualTo(Hashing.crc32c().hashBytes(bytes).asBytes());
+        assertThat(Md5sum.of(bytes, ChecksumAlgorithm.MURMUR3_128).asBytes()).isEqualTo(Hashing.murmur3_128().hashBytes(bytes).asBytes());
     }
 
-    private Source newSource(URL url) throws URISyntaxException {
-        return newSource(url.toURI());
+    @Test
+    public void rejects_unsupported_checksum_algorithm() {
+        assertThatThrownBy(() -> ChecksumAlgorithm.fromName("unknown"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Checksum algorithm 'unknown' is not supported, supported algorithms are [MD5, CRC32C, MURMUR3_128]");
+        assertThat(ChecksumAlgorithm.fromName(" crc32c ")).isEqualTo(ChecksumAlgorithm.CRC32C);
     }
 
-    private Source newSource(URI uri) {
-        return new Source(uri, Optional.<String>empty(), true);
+    private Source newSource(URL url) throws URISyntaxException, IOException {
+        return new Source(url.toURI(), Optional.<String>empty(), Md5sum.of(bytesAt(url), ChecksumAlgorithm.MD5));
     }
 
     private static Md5sum md5sumOf(String data) {
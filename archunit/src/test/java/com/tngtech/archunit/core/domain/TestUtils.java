@@ -1,14 +1,11 @@
 package com.tngtech.archunit.core.domain;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.Files;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.FieldAccessTarget;
@@ -31,7 +28,6 @@ import static com.tngtech.archunit.testutil.ReflectionTestUtils.getHierarchy;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
-import static org.assertj.core.util.Files.newTemporaryFile;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -70,13 +66,7 @@ public class TestUtils {
     }
 
     public static Md5sum md5sumOf(byte[] bytes) {
-        File file = newTemporaryFile();
-        try {
-            Files.write(bytes, file);
-            return new Source(file.toURI(), Optional.<String>empty(), true).getMd5sum();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return Md5sum.of(bytes, ChecksumAlgorithm.MD5);
     }
 
     public static JavaClass importClassWithContext(Class<?> owner) {
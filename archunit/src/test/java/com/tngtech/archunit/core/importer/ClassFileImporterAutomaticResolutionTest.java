@@ -1,8 +1,11 @@
 package com.tngtech.archunit.core.importer;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.Buffer;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
@@ -14,6 +17,7 @@ import java.util.function.Supplier;
 
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.InstanceofCheck;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
@@ -33,7 +37,9 @@ import com.tngtech.archunit.core.domain.ReferencedClassObject;
 import com.tngtech.archunit.core.domain.ThrowsDeclaration;
 import com.tngtech.archunit.core.domain.properties.HasAnnotations;
 import com.tngtech.archunit.core.importer.DependencyResolutionProcessTestUtils.ImporterWithAdjustedResolutionRuns;
+import com.tngtech.archunit.core.importer.testexamples.OtherClass;
 import com.tngtech.archunit.core.importer.testexamples.SomeAnnotation;
+import com.tngtech.archunit.core.importer.testexamples.SomeClass;
 import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.ClassWithUnimportedAnnotation;
 import com.tngtech.archunit.core.importer.testexamples.annotatedparameters.ClassWithMethodWithAnnotatedParameters;
 import com.tngtech.archunit.core.importer.testexamples.annotatedparameters.ClassWithMethodWithAnnotatedParameters.SomeParameterAnnotation;
@@ -582,6 +588,60 @@ public class ClassFileImporterAutomaticResolutionTest {
         assertThatType(componentType).matches(File.class);
     }
 
+    @Test
+    public void automatically_resolves_types_of_one_run_and_array_types_together() {
+        @SuppressWarnings("unused")
+        class Origin {
+            String string;
+            String[] strings;
+            File file;
+            File[][] files;
+            Serializable serializable;
+            SomeClass someClass;
+            OtherClass otherClass;
+        }
+
+        JavaClass javaClass = new ClassFileImporter().importClass(Origin.class);
+
+        ImmutableMap.<String, Class<?>>of("string", String.class, "file", File.class, "serializable", Serializable.class,
+                "someClass", SomeClass.class, "otherClass", OtherClass.class).forEach((fieldName, expectedType) -> {
+            JavaClass resolved = javaClass.getField(fieldName).getRawType();
+            assertThat(resolved).isFullyImported(true);
+            assertThatType(resolved).matches(expectedType);
+        });
+        assertThat(javaClass.getField("strings").getRawType().getComponentType())
+                .isSameAs(javaClass.getField("string").getRawType());
+        assertThat(javaClass.getField("files").getRawType().getComponentType().getComponentType())
+                .isSameAs(javaClass.getField("file").getRawType());
+    }
+
+    @Test
+    public void resolves_types_from_the_context_ClassLoader_of_the_importing_thread() throws IOException {
+        @SuppressWarnings("unused")
+        class Origin {
+            File file;
+            Serializable serializable;
+            SomeClass someClass;
+            OtherClass otherClass;
+        }
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalContextClassLoader = currentThread.getContextClassLoader();
+        // can only see classes of the JDK, but not the test examples
+        try (URLClassLoader jdkOnlyClassLoader = new URLClassLoader(new URL[0], null)) {
+            currentThread.setContextClassLoader(jdkOnlyClassLoader);
+
+            JavaClass javaClass = new ClassFileImporter().importClass(Origin.class);
+
+            assertThat(javaClass.getField("file").getRawType()).isFullyImported(true);
+            assertThat(javaClass.getField("serializable").getRawType()).isFullyImported(true);
+            assertThat(javaClass.getField("someClass").getRawType()).isFullyImported(false);
+            assertThat(javaClass.getField("otherClass").getRawType()).isFullyImported(false);
+        } finally {
+            currentThread.setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
     @Test
     public void automatically_resolves_enclosing_classes() throws ClassNotFoundException {
         @SuppressWarnings("unused")
@@ -11,11 +11,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.AccessTarget.CodeUnitAccessTarget;
@@ -31,6 +33,9 @@ import com.tngtech.archunit.core.domain.Source;
 import com.tngtech.archunit.core.importer.testexamples.OtherClass;
 import com.tngtech.archunit.core.importer.testexamples.SomeClass;
 import com.tngtech.archunit.core.importer.testexamples.SomeEnum;
+import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.ClassWithComplexAnnotations;
+import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.ClassWithOneAnnotation;
+import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.SimpleAnnotation;
 import com.tngtech.archunit.core.importer.testexamples.arrays.ClassAccessingOneDimensionalArray;
 import com.tngtech.archunit.core.importer.testexamples.arrays.ClassAccessingTwoDimensionalArray;
 import com.tngtech.archunit.core.importer.testexamples.arrays.ClassUsedInArray;
@@ -72,6 +77,7 @@ import com.tngtech.archunit.core.importer.testexamples.simpleimport.EnumToImport
 import com.tngtech.archunit.core.importer.testexamples.simpleimport.InterfaceToImport;
 import com.tngtech.archunit.core.importer.testexamples.simplenames.SimpleNameExamples;
 import com.tngtech.archunit.core.importer.testexamples.syntheticimport.ClassWithSynthetics;
+import com.tngtech.archunit.core.importer.testexamples.trycatch.ClassWithSimpleTryCatchBlocks;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.archunit.testutil.LogTestRule;
 import com.tngtech.archunit.testutil.OutsideOfClassPathRule;
@@ -112,6 +118,7 @@ import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assume.assumeTrue;
 
 @RunWith(DataProviderRunner.class)
@@ -806,23 +813,41 @@ public class ClassFileImporterTest {
         Source source = clazzFromFile.getSource().get();
         assertThat(source.getUri()).isEqualTo(uriOf(ClassToImportOne.class));
         assertThat(source.getFileName()).contains(ClassToImportOne.class.getSimpleName() + ".java");
-        assertThat(source.getMd5sum()).isEqualTo(md5sumOf(bytesAt(urlOf(ClassToImportOne.class))));
+        assertThat(source.getChecksum()).isEqualTo(md5sumOf(bytesAt(urlOf(ClassToImportOne.class))));
 
         clazzFromFile = new ClassFileImporter().importClass(ClassWithInnerClass.Inner.class);
         source = clazzFromFile.getSource().get();
         assertThat(source.getUri()).isEqualTo(uriOf(ClassWithInnerClass.Inner.class));
         assertThat(source.getFileName()).contains(ClassWithInnerClass.class.getSimpleName() + ".java");
-        assertThat(source.getMd5sum()).isEqualTo(md5sumOf(bytesAt(urlOf(ClassWithInnerClass.Inner.class))));
+        assertThat(source.getChecksum()).isEqualTo(md5sumOf(bytesAt(urlOf(ClassWithInnerClass.Inner.class))));
 
         JavaClass clazzFromJar = new ClassFileImporter().importClass(Rule.class);
         source = clazzFromJar.getSource().get();
         assertThat(source.getUri()).isEqualTo(uriOf(Rule.class));
         assertThat(source.getFileName()).contains(Rule.class.getSimpleName() + ".java");
-        assertThat(source.getMd5sum()).isEqualTo(md5sumOf(bytesAt(urlOf(Rule.class))));
+        assertThat(source.getChecksum()).isEqualTo(md5sumOf(bytesAt(urlOf(Rule.class))));
 
         ArchConfiguration.get().setMd5InClassSourcesEnabled(false);
         source = new ClassFileImporter().importClass(ClassToImportOne.class).getSource().get();
-        assertThat(source.getMd5sum()).isEqualTo(MD5_SUM_DISABLED);
+        assertThat(source.getChecksum()).isEqualTo(MD5_SUM_DISABLED);
+    }
+
+    @Test
+    public void computes_class_source_checksums_with_configured_algorithm() throws Exception {
+        ArchConfiguration.get().setMd5InClassSourcesEnabled(true);
+        ArchConfiguration.get().setClassSourceChecksumAlgorithm("CRC32C");
+
+        JavaClass clazzFromFile = new ClassFileImporter().importClass(ClassToImportOne.class);
+        assertThat(clazzFromFile.getSource().get().getChecksum().asBytes())
+                .isEqualTo(Hashing.crc32c().hashBytes(bytesAt(urlOf(ClassToImportOne.class))).asBytes());
+
+        JavaClass clazzFromJar = new ClassFileImporter().importClass(Rule.class);
+        assertThat(clazzFromJar.getSource().get().getChecksum().asBytes())
+                .isEqualTo(Hashing.crc32c().hashBytes(bytesAt(urlOf(Rule.class))).asBytes());
+
+        JavaClass resolvedFromClasspath = clazzFromFile.getRawSuperclass().get();
+        assertThat(resolvedFromClasspath.getSource().get().getChecksum().asBytes())
+                .isEqualTo(Hashing.crc32c().hashBytes(bytesAt(urlOf(Object.class))).asBytes());
     }
 
     @Test
@@ -888,6 +913,72 @@ public class ClassFileImporterTest {
         assertThatTypes(importer.importJar(jarFileOf(Rule.class))).matchExactly(Rule.class);
     }
 
+    @Test
+    public void ClassHeaderFilters_are_respected() {
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(true);
+        ClassFileImporter importer = new ClassFileImporter()
+                .withClassHeaderFilter(header -> header.getPackageName().equals(BaseClass.class.getPackage().getName()))
+                .withClassHeaderFilter(header -> header.getSuperclassName().equals(Optional.of(BaseClass.class.getName())));
+
+        JavaClasses classes = importer.importPackagesOf(BaseClass.class, ClassToImportOne.class);
+
+        assertThatTypes(classes).matchInAnyOrder(Subclass.class, OtherSubclass.class);
+        JavaClass excludedSuperclass = classes.get(Subclass.class).getRawSuperclass().get();
+        assertThat(excludedSuperclass).isFullyImported(false);
+        assertThat(excludedSuperclass.getMethods()).isEmpty();
+    }
+
+    @Test
+    public void ClassHeaderFilters_see_class_annotations() {
+        JavaClasses classes = new ClassFileImporter()
+                .withClassHeaderFilter(header -> header.isAnnotatedWith(SimpleAnnotation.class))
+                .importPackagesOf(ClassWithOneAnnotation.class);
+
+        assertThatTypes(classes).matchInAnyOrder(ClassWithOneAnnotation.class, ClassWithComplexAnnotations.class);
+    }
+
+    @Test
+    public void ImportDetailLevel_SIGNATURES_ONLY_skips_code() {
+        JavaClasses classes = new ClassFileImporter().withDetailLevel(ImportDetailLevel.SIGNATURES_ONLY)
+                .importClasses(ClassWithSimpleTryCatchBlocks.class, PrintStream.class);
+        JavaClass javaClass = classes.get(ClassWithSimpleTryCatchBlocks.class);
+        JavaClass printStream = classes.get(PrintStream.class);
+
+        JavaMethod method = javaClass.getMethod("method");
+        assertThat(method.getRawReturnType()).matches(Object.class);
+        assertThat(javaClass.getDirectDependenciesFromSelf())
+                .as("dependencies from code").noneMatch(dependency -> dependency.getTargetClass().isEquivalentTo(PrintStream.class));
+        assertThat(printStream.getDirectDependenciesToSelf())
+                .as("dependencies to accessed class").noneMatch(dependency -> dependency.getOriginClass().equals(javaClass));
+
+        assertThat(method.getSourceCodeLocation().getLineNumber()).as("line number without code").isZero();
+        JavaClass resolvedSuperclass = javaClass.getRawSuperclass().get();
+        assertThat(resolvedSuperclass.getMethod("toString").getSourceCodeLocation().getLineNumber())
+                .as("line number of class resolved from the classpath").isZero();
+
+        assertThatThrownBy(javaClass::getMethodCallsFromSelf)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("method calls from " + javaClass.getName())
+                .hasMessageContaining("ImportDetailLevel.SIGNATURES_ONLY");
+        assertThatThrownBy(method::getConstructorCallsFromSelf).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(printStream.getMethod("println", String.class)::getCallsOfSelf)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void ImportDetailLevel_DEPENDENCIES_skips_try_catch_blocks() {
+        JavaClass javaClass = new ClassFileImporter().withDetailLevel(ImportDetailLevel.DEPENDENCIES)
+                .importClasses(ClassWithSimpleTryCatchBlocks.class, PrintStream.class).get(ClassWithSimpleTryCatchBlocks.class);
+
+        assertThat(javaClass.getConstructorCallsFromSelf()).isNotEmpty();
+        assertThat(javaClass.getDirectDependenciesFromSelf())
+                .anyMatch(dependency -> dependency.getTargetClass().isEquivalentTo(PrintStream.class));
+
+        assertThatThrownBy(javaClass.getMethod("method")::getTryCatchBlocks)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ImportDetailLevel.FULL");
+    }
+
     @Test
     public void is_resilient_against_broken_ClassFileSources() throws MalformedURLException {
         JavaClasses classes = new ClassFileImporter().importUrl(new File("/broken.class").toURI().toURL());
@@ -0,0 +1,65 @@
+package com.tngtech.archunit.core.importer;
+
+import java.net.URL;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassPathIndexTest {
+
+    @Test
+    public void finds_locations_containing_directories_and_entries() {
+        URL junitJar = Test.class.getProtectionDomain().getCodeSource().getLocation();
+        URL archUnitClasses = ClassPathIndex.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassPathIndex index = ClassPathIndex.of(ImmutableList.of(junitJar, archUnitClasses));
+        Location junitLocation = Location.of(junitJar);
+        Location archUnitLocation = Location.of(archUnitClasses);
+
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("org/junit")))
+                .containsOnly(junitLocation);
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("/org/junit/")))
+                .containsOnly(junitLocation);
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("org/junit/Test.class")))
+                .containsOnly(junitLocation);
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("com/tngtech/archunit/core")))
+                .containsOnly(archUnitLocation);
+
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("org/jun"))).isEmpty();
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("org/junit/Test"))).isEmpty();
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("not/existing"))).isEmpty();
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from(""))).isEmpty();
+    }
+
+    @Test
+    public void finds_locations_containing_class_files_via_the_locations_of_their_directory() {
+        URL junitJar = Test.class.getProtectionDomain().getCodeSource().getLocation();
+        URL archUnitClasses = ClassPathIndex.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassPathIndex index = ClassPathIndex.of(ImmutableList.of(junitJar, archUnitClasses));
+
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("com/tngtech/archunit/core/importer/ClassPathIndex.class")))
+                .containsOnly(Location.of(archUnitClasses));
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("org/junit/Test.class")))
+                .containsOnly(Location.of(junitJar));
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("com/tngtech/archunit/core/importer/NotExisting.class")))
+                .isEmpty();
+        assertThat(index.getLocationsContainingEntriesWithPrefix(NormalizedResourceName.from("org/junit/NotExisting.class")))
+                .isEmpty();
+
+        assertThat(Locations.ofClass(ClassPathIndex.class))
+                .contains(Location.of(ClassPathIndex.class.getResource(ClassPathIndex.class.getSimpleName() + ".class")));
+    }
+
+    @Test
+    public void reuses_index_as_long_as_class_path_does_not_change() {
+        List<URL> classPath = ImmutableList.of(Test.class.getProtectionDomain().getCodeSource().getLocation());
+        List<URL> otherClassPath = ImmutableList.of(ClassPathIndex.class.getProtectionDomain().getCodeSource().getLocation());
+
+        ClassPathIndex index = ClassPathIndex.of(classPath);
+
+        assertThat(ClassPathIndex.of(ImmutableList.copyOf(classPath))).isSameAs(index);
+        assertThat(ClassPathIndex.of(otherClassPath)).isNotSameAs(index);
+    }
+}
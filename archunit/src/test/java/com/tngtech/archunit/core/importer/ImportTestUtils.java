@@ -432,5 +432,15 @@ public class ImportTestUtils {
         public JavaClass resolveClass(String fullyQualifiedClassName) {
             throw new UnsupportedOperationException("Override me where necessary");
         }
+
+        @Override
+        public ImportDetailLevel getImportDetailLevel() {
+            return ImportDetailLevel.FULL;
+        }
+
+        @Override
+        public boolean isPredicateResultMemoizationEnabled() {
+            return false;
+        }
     }
 }
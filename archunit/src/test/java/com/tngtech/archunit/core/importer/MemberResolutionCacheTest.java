@@ -0,0 +1,49 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemberResolutionCacheTest {
+
+    @Test
+    public void resolves_each_target_only_once() {
+        JavaMethod method = importClassWithContext(Object.class).getMethod("toString");
+        MemberResolutionCache cache = new MemberResolutionCache();
+        AtomicInteger resolutions = new AtomicInteger();
+        Supplier<Optional<JavaMethod>> resolve = () -> {
+            resolutions.incrementAndGet();
+            return Optional.of(method);
+        };
+
+        Optional<JavaMethod> first = cache.getMethod(new TargetInfo("java/lang/Object", "toString", "()Ljava/lang/String;"), resolve);
+        Optional<JavaMethod> second = cache.getMethod(new TargetInfo("java/lang/Object", "toString", "()Ljava/lang/String;"), resolve);
+
+        assertThat(first).contains(method);
+        assertThat(second).isSameAs(first);
+        assertThat(resolutions).hasValue(1);
+    }
+
+    @Test
+    public void caches_unresolved_targets() {
+        MemberResolutionCache cache = new MemberResolutionCache();
+        AtomicInteger resolutions = new AtomicInteger();
+        Supplier<Optional<JavaMethod>> resolve = () -> {
+            resolutions.incrementAndGet();
+            return Optional.empty();
+        };
+
+        cache.getMethod(new TargetInfo("some/Unknown", "method", "()V"), resolve);
+        Optional<JavaMethod> result = cache.getMethod(new TargetInfo("some/Unknown", "method", "()V"), resolve);
+
+        assertThat(result).isEmpty();
+        assertThat(resolutions).hasValue(1);
+    }
+}
@@ -9,10 +9,12 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
 import org.junit.Test;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.lang.Priority.MEDIUM;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 import static java.util.Arrays.stream;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -106,6 +108,53 @@ public class EvaluationResultTest {
                 "handle sub type: I'm violated and correct sub type");
     }
 
+    @Test
+    public void writes_violations_as_json_lines() {
+        EvaluationResult result = noClasses().that().haveSimpleName(DependencyOrigin.class.getSimpleName())
+                .should().dependOnClassesThat().haveSimpleName(DependencyTarget.class.getSimpleName())
+                .evaluate(new ClassFileImporter().importClasses(DependencyOrigin.class, DependencyTarget.class));
+
+        StringBuilder jsonLines = new StringBuilder();
+        result.writeViolationsAsJsonLines(jsonLines);
+
+        String expectedPrefix = String.format(
+                "{\"rule\":\"no classes that have simple name 'DependencyOrigin' should depend on classes that have simple name 'DependencyTarget'\","
+                        + "\"priority\":\"MEDIUM\",\"origin\":\"%s\",\"target\":\"%s\",",
+                DependencyOrigin.class.getName(), DependencyTarget.class.getName());
+        assertThat(jsonLines.toString().split("\n"))
+                .hasSize(2)
+                .allMatch(line -> line.startsWith(expectedPrefix))
+                .anyMatch(line -> line.contains("\"type\":\"has type\",\"sourceFile\":\"EvaluationResultTest.java\",\"line\":0,"))
+                .anyMatch(line -> line.contains("\"type\":\"calls\",\"sourceFile\":\"EvaluationResultTest.java\",\"line\":"));
+    }
+
+    @Test
+    public void writes_violating_accesses_as_json_lines_with_the_same_type_as_dependencies() {
+        EvaluationResult result = noClasses().that().haveSimpleName(DependencyOrigin.class.getSimpleName())
+                .should().accessClassesThat().haveSimpleName(DependencyTarget.class.getSimpleName())
+                .evaluate(new ClassFileImporter().importClasses(DependencyOrigin.class, DependencyTarget.class));
+
+        StringBuilder jsonLines = new StringBuilder();
+        result.writeViolationsAsJsonLines(jsonLines);
+
+        assertThat(jsonLines.toString().split("\n"))
+                .hasSize(1)
+                .allMatch(line -> line.contains("\"type\":\"calls\",\"sourceFile\":\"EvaluationResultTest.java\",\"line\":"));
+    }
+
+    @Test
+    public void writes_violations_as_json_lines_with_escaped_messages() {
+        EvaluationResult result = evaluationResultWith(
+                SimpleConditionEvent.violated(new Object(), "some \"quoted\" \\ message\nwith line break"),
+                SimpleConditionEvent.satisfied(new Object(), "not violated"));
+
+        StringBuilder jsonLines = new StringBuilder();
+        result.writeViolationsAsJsonLines(jsonLines);
+
+        assertThat(jsonLines.toString()).isEqualTo(
+                "{\"rule\":\"unimportant\",\"priority\":\"MEDIUM\",\"message\":\"some \\\"quoted\\\" \\\\ message\\nwith line break\"}\n");
+    }
+
     private EvaluationResult evaluationResultWith(ConditionEvent... events) {
         return new EvaluationResult(hasDescription("unimportant"), events(events), MEDIUM);
     }
@@ -151,6 +200,20 @@ public class EvaluationResultTest {
     private static class WrongType {
     }
 
+    @SuppressWarnings("unused")
+    private static class DependencyOrigin {
+        private DependencyTarget target;
+
+        void call() {
+            target.call();
+        }
+    }
+
+    private static class DependencyTarget {
+        void call() {
+        }
+    }
+
     private static class WrongSupertype {
     }
 
@@ -1,6 +1,7 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -14,6 +15,7 @@ import static com.tngtech.archunit.lang.conditions.ArchConditions.never;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 
 public class ContainsOnlyConditionTest {
     private static final List<SerializableObject> TWO_SERIALIZABLE_OBJECTS = asList(new SerializableObject(), new SerializableObject());
@@ -65,6 +67,22 @@ public class ContainsOnlyConditionTest {
         assertThat(events.getViolating()).as("violated events").isEmpty();
     }
 
+    @Test
+    public void only_requests_satisfied_events_if_they_might_be_inverted() {
+        List<Boolean> trackingSatisfiedEvents = new ArrayList<>();
+        ArchCondition<Object> condition = new ArchCondition<Object>("record if satisfied events are tracked") {
+            @Override
+            public void check(Object item, ConditionEvents events) {
+                trackingSatisfiedEvents.add(events.isTrackingSatisfiedEvents());
+            }
+        };
+
+        containOnlyElementsThat(condition).check(singletonList(new Object()), ConditionEvents.Factory.create());
+        never(containOnlyElementsThat(condition)).check(singletonList(new Object()), ConditionEvents.Factory.create());
+
+        assertThat(trackingSatisfiedEvents).containsExactly(false, true);
+    }
+
     static String messageForTwoTimes(String message) {
         return String.format("%s%n%s", message, message);
     }
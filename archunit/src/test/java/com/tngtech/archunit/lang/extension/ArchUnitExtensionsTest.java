@@ -1,6 +1,8 @@
 package com.tngtech.archunit.lang.extension;
 
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.ArchConfiguration;
@@ -128,6 +130,123 @@ public class ArchUnitExtensionsTest {
         evaluateExtensionAndVerifyLog(expectedExceptionMessage, evilExtension);
     }
 
+    @Test
+    public void async_extensions_are_dispatched_without_blocking_the_evaluating_thread() throws InterruptedException {
+        CountDownLatch handlingAllowed = new CountDownLatch(1);
+        TestExtension extension = async(enabled(new TestExtension("slow") {
+            @Override
+            public void handle(EvaluatedRule evaluatedRule) {
+                awaitUninterruptibly(handlingAllowed);
+                super.handle(evaluatedRule);
+            }
+        }));
+        when(extensionLoader.getAll()).thenReturn(singleton(extension));
+
+        extensions.dispatch(evaluatedRule);
+
+        assertThat(extension.getEvaluatedRule()).as("rule handled before extension was allowed to proceed").isNull();
+        AsyncExtensionDispatcher dispatcher = extensions.getAsyncDispatcher(extension.getUniqueIdentifier());
+        handlingAllowed.countDown();
+        extensions.flush();
+
+        assertThat(extension.getEvaluatedRule()).isEqualTo(evaluatedRule);
+        assertThat(extension.getConfiguredProperties()).containsEntry("async", "true");
+        assertThat(dispatcher.getNumberOfHandledRules()).isEqualTo(1);
+    }
+
+    @Test
+    public void async_dispatch_drops_rules_if_queue_is_full() {
+        CountDownLatch handlingAllowed = new CountDownLatch(1);
+        TestExtension extension = async(enabled(new TestExtension("slow") {
+            @Override
+            public void handle(EvaluatedRule evaluatedRule) {
+                awaitUninterruptibly(handlingAllowed);
+                super.handle(evaluatedRule);
+            }
+        }));
+        ArchConfiguration.get().configureExtension(extension.getUniqueIdentifier()).setProperty("async.queueCapacity", 1);
+        when(extensionLoader.getAll()).thenReturn(singleton(extension));
+        logTestRule.watch(AsyncExtensionDispatcher.class, Level.WARN);
+
+        // the first rule is taken by the dispatcher thread (or waits in the queue), so at most two rules can be accepted
+        for (int i = 0; i < 5; i++) {
+            extensions.dispatch(evaluatedRule);
+        }
+        AsyncExtensionDispatcher dispatcher = extensions.getAsyncDispatcher(extension.getUniqueIdentifier());
+        handlingAllowed.countDown();
+        extensions.flush();
+
+        assertThat(dispatcher.getNumberOfDroppedRules()).isBetween(3L, 4L);
+        assertThat(dispatcher.getNumberOfHandledRules() + dispatcher.getNumberOfDroppedRules()).isEqualTo(5);
+        logTestRule.assertLogMessage(Level.WARN, "Dropping evaluated rule for extension 'slow'");
+    }
+
+    @Test
+    public void async_dispatch_counts_failures_of_extension() {
+        TestExtension evilExtension = async(enabled(new TestExtension("evil") {
+            @Override
+            public void handle(EvaluatedRule evaluatedRule) {
+                throw new TestException("Bummer");
+            }
+        }));
+        when(extensionLoader.getAll()).thenReturn(singleton(evilExtension));
+
+        extensions.dispatch(evaluatedRule);
+        extensions.dispatch(evaluatedRule);
+        AsyncExtensionDispatcher dispatcher = extensions.getAsyncDispatcher(evilExtension.getUniqueIdentifier());
+        extensions.flush();
+
+        assertThat(dispatcher.getNumberOfFailedRules()).isEqualTo(2);
+        assertThat(dispatcher.getNumberOfHandledRules()).isZero();
+    }
+
+    @Test
+    public void flushAll_waits_for_pending_rules_of_all_instances() {
+        CountDownLatch handlingAllowed = new CountDownLatch(1);
+        TestExtension extension = async(enabled(new TestExtension("slow") {
+            @Override
+            public void handle(EvaluatedRule evaluatedRule) {
+                awaitUninterruptibly(handlingAllowed);
+                super.handle(evaluatedRule);
+            }
+        }));
+        when(extensionLoader.getAll()).thenReturn(singleton(extension));
+
+        extensions.dispatch(evaluatedRule);
+        handlingAllowed.countDown();
+        ArchUnitExtensions.flushAll();
+
+        assertThat(extension.getEvaluatedRule()).isEqualTo(evaluatedRule);
+        assertThat(extensions.getAsyncDispatcher(extension.getUniqueIdentifier())).as("dispatcher after flush").isNull();
+    }
+
+    @Test
+    public void async_dispatch_handles_rules_arriving_after_flush_instead_of_dropping_them() {
+        TestExtension extension = async(enabled(new TestExtension("late")));
+        when(extensionLoader.getAll()).thenReturn(singleton(extension));
+        extensions.dispatch(evaluatedRule);
+        AsyncExtensionDispatcher dispatcher = extensions.getAsyncDispatcher(extension.getUniqueIdentifier());
+
+        dispatcher.flush();
+        dispatcher.dispatch(ArchConfiguration.get().getExtensionProperties(extension.getUniqueIdentifier()), evaluatedRule);
+
+        assertThat(dispatcher.getNumberOfHandledRules()).isEqualTo(2);
+        assertThat(dispatcher.getNumberOfDroppedRules()).isZero();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TestExtension async(TestExtension extension) {
+        ArchConfiguration.get().configureExtension(extension.getUniqueIdentifier()).setProperty("async", true);
+        return extension;
+    }
+
     private TestExtension enabled(TestExtension extension) {
         ArchConfiguration.get().configureExtension(extension.getUniqueIdentifier()).setProperty("enabled", true);
         return extension;
@@ -0,0 +1,106 @@
+package com.tngtech.archunit.library.dependencies;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.library.dependencies.testexamples.classcycles.ClassWithNestedClasses;
+import com.tngtech.archunit.library.dependencies.testexamples.classcycles.CycleOrigin;
+import com.tngtech.archunit.library.dependencies.testexamples.classcycles.CycleTarget;
+import com.tngtech.archunit.library.dependencies.testexamples.completedependencygraph.sevennodes.CompleteSevenNodesGraphRoot;
+import com.tngtech.archunit.library.dependencies.testexamples.completedependencygraph.sevennodes.a.A;
+import com.tngtech.archunit.library.dependencies.testexamples.cyclewithunbalanceddependencies.CycleWithUnbalancedDependenciesRoot;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConditions.beFreeOfCycles;
+import static com.tngtech.archunit.library.dependencies.CycleConditions.resideInPackagesFreeOfCycles;
+import static com.tngtech.archunit.library.dependencies.SliceRuleTest.countCyclesInMessage;
+import static com.tngtech.archunit.library.dependencies.SliceRuleTest.getNumberOfCyclesInCompleteGraph;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CycleConditionsTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void classes_without_cycles_satisfy_conditions() {
+        JavaClasses classes = new ClassFileImporter().importClasses(A.class, CompleteSevenNodesGraphRoot.class);
+
+        assertThat(classes().should(beFreeOfCycles()).evaluate(classes).hasViolation()).as("has violation").isFalse();
+        assertThat(classes().should(resideInPackagesFreeOfCycles()).evaluate(classes).hasViolation()).as("has violation").isFalse();
+    }
+
+    @Test
+    public void detects_all_cycles_between_classes() {
+        int expectedNumberOfCycles = getNumberOfCyclesInCompleteGraph(7);
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(expectedNumberOfCycles));
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(CompleteSevenNodesGraphRoot.class);
+
+        String classCycles = classes().should(beFreeOfCycles()).evaluate(classes).getFailureReport().toString();
+        String packageCycles = classes().should(resideInPackagesFreeOfCycles()).evaluate(classes).getFailureReport().toString();
+
+        assertThat(countCyclesInMessage(classCycles)).as("number of class cycles").isEqualTo(expectedNumberOfCycles);
+        assertThat(classCycles).contains("(" + expectedNumberOfCycles + " times)").contains("Class <" + A.class.getName() + ">");
+        assertThat(countCyclesInMessage(packageCycles)).as("number of package cycles").isEqualTo(expectedNumberOfCycles);
+        assertThat(packageCycles).contains("Package <" + A.class.getPackage().getName() + ">");
+    }
+
+    @Test
+    public void only_detects_cycles_between_different_packages_on_package_level() {
+        JavaClasses classes = new ClassFileImporter().importClasses(CycleOrigin.class, CycleTarget.class);
+
+        EvaluationResult classCycles = classes().should(beFreeOfCycles()).evaluate(classes);
+        EvaluationResult packageCycles = classes().should(resideInPackagesFreeOfCycles()).evaluate(classes);
+
+        assertThat(countCyclesInMessage(classCycles.getFailureReport().toString())).as("number of class cycles").isEqualTo(1);
+        assertThat(packageCycles.hasViolation()).as("package cycles have violation").isFalse();
+    }
+
+    @Test
+    public void considers_nested_classes_part_of_their_top_level_class() {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(ClassWithNestedClasses.class);
+        assertThat(classes.stream().filter(javaClass -> javaClass.getEnclosingClass().isPresent()).map(JavaClass::getName))
+                .as("nested classes")
+                .contains(ClassWithNestedClasses.class.getName() + "$Inner", ClassWithNestedClasses.class.getName() + "$1");
+
+        String failureReport = classes().should(beFreeOfCycles()).evaluate(classes).getFailureReport().toString();
+
+        assertThat(countCyclesInMessage(failureReport)).as("number of cycles").isEqualTo(1);
+        assertThat(failureReport)
+                .contains("Class <" + CycleOrigin.class.getName() + ">")
+                .contains("Class <" + CycleTarget.class.getName() + ">")
+                .doesNotContain(ClassWithNestedClasses.class.getName());
+    }
+
+    @Test
+    public void reports_dependencies_of_package_cycles() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME, "3");
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(CycleWithUnbalancedDependenciesRoot.class);
+
+        String failureReport = classes().should(resideInPackagesFreeOfCycles()).evaluate(classes).getFailureReport().toString();
+
+        String rootPackage = CycleWithUnbalancedDependenciesRoot.class.getPackage().getName();
+        assertThat(failureReport)
+                .contains("Cycle detected: Package <" + rootPackage + ".onedependency> -> ")
+                .contains("Dependencies of Package <" + rootPackage + ".thirtydependencies>")
+                .contains("(27 further dependencies have been omitted...)");
+    }
+
+    @Test
+    public void reports_only_one_cycle_per_component_if_configured() {
+        ArchConfiguration.get().setProperty(REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME, "true");
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(CompleteSevenNodesGraphRoot.class);
+
+        String failureReport = classes().should(beFreeOfCycles()).evaluate(classes).getFailureReport().toString();
+
+        assertThat(countCyclesInMessage(failureReport)).as("number of cycles").isEqualTo(1);
+        assertThat(failureReport).contains("only one shortest cycle per group of cyclically dependent classes has been reported");
+    }
+}
@@ -12,6 +12,8 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.library.dependencies.Graph.Cycles;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -19,15 +21,20 @@ import static com.google.common.collect.DiscreteDomain.integers;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.collect.Sets.cartesianProduct;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.PARALLEL_SEARCH_PROPERTY_NAME;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class GraphTest {
     private static final Random random = new Random();
 
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
     @Test
     public void graph_without_cycles() {
         Graph<String, String> graph = new Graph<>();
@@ -55,6 +62,17 @@ public class GraphTest {
         assertEdgeExists(cycle, nodeC, nodeA);
     }
 
+    @Test
+    public void rejects_second_edge_between_same_nodes() {
+        Graph<String, String> graph = new Graph<>();
+        graph.addNodes(asList("Node-A", "Node-B"));
+        graph.addEdges(singleton(stringEdge("Node-A", "Node-B")));
+
+        assertThatThrownBy(() -> graph.addEdges(singleton(stringEdge("Node-A", "Node-B"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Graph already contains an edge from Node-A to Node-B");
+    }
+
     @Test
     public void sub_cycle_of_three_node_graph_is_detected() {
         Graph<String, String> graph = new Graph<>();
@@ -161,6 +179,66 @@ public class GraphTest {
         assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
     }
 
+    @Test
+    public void parallel_search_finds_the_same_cycles_in_the_same_order_as_sequential_search() {
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, 9), integers()));
+        // three independent components {0, 4, 8}, {1, 3, 5} and {2, 6, 7}, connected by edges not belonging to any cycle
+        graph.addEdges(ImmutableSet.of(
+                integerEdge(0, 4), integerEdge(4, 8), integerEdge(8, 0), integerEdge(8, 4),
+                integerEdge(1, 5), integerEdge(5, 3), integerEdge(3, 1), integerEdge(3, 5), integerEdge(5, 1),
+                integerEdge(2, 7), integerEdge(7, 6), integerEdge(6, 2), integerEdge(2, 6),
+                integerEdge(0, 1), integerEdge(3, 2), integerEdge(8, 6)));
+
+        List<Cycle<Integer, Integer>> sequentialCycles = ImmutableList.copyOf(graph.findCycles());
+        ArchConfiguration.get().setProperty(PARALLEL_SEARCH_PROPERTY_NAME, "true");
+        List<Cycle<Integer, Integer>> parallelCycles = ImmutableList.copyOf(graph.findCycles());
+
+        assertThat(sequentialCycles).hasSize(7);
+        assertThat(parallelCycles).containsExactlyElementsOf(sequentialCycles);
+    }
+
+    @Test
+    public void parallel_search_finds_the_same_cycles_as_sequential_search_if_maximum_number_of_cycles_is_reached() {
+        Graph<Integer, Object> graph = RealLifeGraph.get();
+        int expectedNumberOfCycles = 10000;
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, String.valueOf(expectedNumberOfCycles));
+
+        List<Cycle<Integer, Object>> sequentialCycles = ImmutableList.copyOf(graph.findCycles());
+        ArchConfiguration.get().setProperty(PARALLEL_SEARCH_PROPERTY_NAME, "true");
+        Cycles<Integer, Object> parallelCycles = graph.findCycles();
+
+        assertThat(parallelCycles).hasSize(expectedNumberOfCycles);
+        assertThat(parallelCycles).containsExactlyElementsOf(sequentialCycles);
+        assertThat(parallelCycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
+    }
+
+    @Test
+    public void finds_one_shortest_cycle_per_strongly_connected_component() {
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, 7), integers()));
+        graph.addEdges(ImmutableSet.of(
+                integerEdge(0, 1), integerEdge(1, 2), integerEdge(2, 3), integerEdge(3, 0), integerEdge(1, 3),
+                integerEdge(3, 4),
+                integerEdge(4, 5), integerEdge(5, 6), integerEdge(6, 4), integerEdge(5, 4)));
+
+        Cycles<Integer, Integer> cycles = graph.findShortestCyclePerComponent();
+
+        assertThat(cycles).containsExactly(
+                createCycle(ImmutableList.of(0, 1, 3, 0)),
+                createCycle(ImmutableList.of(4, 5, 4)));
+        assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isFalse();
+    }
+
+    @Test
+    public void finds_no_shortest_cycle_in_graph_without_cycles() {
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ContiguousSet.create(Range.closedOpen(0, 3), integers()));
+        graph.addEdges(ImmutableSet.of(integerEdge(0, 1), integerEdge(1, 2), integerEdge(0, 2)));
+
+        assertThat(graph.findShortestCyclePerComponent()).isEmpty();
+    }
+
     @SuppressWarnings("unchecked")
     private Graph<Integer, Integer> createCompleteGraph(int n) {
         ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(0, n), integers());
@@ -1,8 +1,11 @@
 package com.tngtech.archunit.library.dependencies;
 
+import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.IntList;
 import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.IntStack;
+import com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.LongToIntMap;
 import org.junit.Test;
 
+import static com.tngtech.archunit.library.dependencies.PrimitiveDataTypes.LongToIntMap.ABSENT;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class PrimitiveDataTypesTest {
@@ -28,4 +31,31 @@ public class PrimitiveDataTypesTest {
         int[] expected = {1, 2, 4};
         assertThat(intStack.asArray()).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void list_grows_beyond_initial_capacity() {
+        IntList intList = new IntList();
+        for (int i = 0; i < 100; i++) {
+            intList.add(i * 2);
+        }
+
+        assertThat(intList.size()).isEqualTo(100);
+        assertThat(intList.get(0)).isEqualTo(0);
+        assertThat(intList.get(99)).isEqualTo(198);
+    }
+
+    @Test
+    public void map_stores_values_by_long_keys() {
+        LongToIntMap map = new LongToIntMap();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.put(((long) i << 32) | (i % 7), i)).isEqualTo(ABSENT);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get(((long) i << 32) | (i % 7))).isEqualTo(i);
+        }
+        assertThat(map.get((1L << 32) | 2)).isEqualTo(ABSENT);
+        assertThat(map.put(5L << 32 | 5, 12)).isEqualTo(5);
+        assertThat(map.get(5L << 32 | 5)).isEqualTo(12);
+    }
+}
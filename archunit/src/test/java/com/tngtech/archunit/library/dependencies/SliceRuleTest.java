@@ -1,6 +1,8 @@
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -23,6 +25,8 @@ import org.junit.runner.RunWith;
 import static com.google.common.math.IntMath.factorial;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.PARALLEL_EDGE_COLLECTION_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
@@ -123,6 +127,29 @@ public class SliceRuleTest {
                 + "this limit can be adapted using the `archunit.properties` value `cycles.maxNumberToDetect=xxx`)");
     }
 
+    @Test
+    public void reports_only_one_shortest_cycle_per_component_if_configured() {
+        ArchConfiguration.get().setProperty(REPORT_ONE_CYCLE_PER_COMPONENT_PROPERTY_NAME, "true");
+
+        String failureReport = getFailureReportForCyclesInRootPackageOf(CompleteSevenNodesGraphRoot.class);
+
+        assertThat(countCyclesInMessage(failureReport)).as("number of cycles detected").isEqualTo(1);
+        assertThat(filterLinesMatching(failureReport, "Dependencies of Slice")).as("edges of reported cycle").hasSize(2);
+        assertThat(failureReport).as("failure report").contains("(1 times - "
+                + "only one shortest cycle per group of cyclically dependent slices has been reported; "
+                + "all cycles can be reported by setting the `archunit.properties` value `cycles.reportOneCyclePerComponent=false`)");
+    }
+
+    @Test
+    public void reports_the_same_cycles_if_slice_dependencies_are_collected_in_parallel() {
+        String sequentialFailureReport = getFailureReportForCyclesInRootPackageOf(CycleWithUnbalancedDependenciesRoot.class);
+
+        ArchConfiguration.get().setProperty(PARALLEL_EDGE_COLLECTION_PROPERTY_NAME, "true");
+        String parallelFailureReport = getFailureReportForCyclesInRootPackageOf(CycleWithUnbalancedDependenciesRoot.class);
+
+        assertThat(parallelFailureReport).isEqualTo(sequentialFailureReport);
+    }
+
     @Test
     public void limits_number_of_reported_dependencies_per_edge_to_configured_limit() {
         ArchConfiguration.get().setProperty(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME, "3");
@@ -137,6 +164,24 @@ public class SliceRuleTest {
                 "Dependencies of Slice threedependencies"));
     }
 
+    @Test
+    public void only_retains_dependencies_to_report_per_edge() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME, "3");
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(CycleWithUnbalancedDependenciesRoot.class);
+
+        List<Cycle<?, ?>> reportedCycles = new ArrayList<>();
+        slices().matching(CycleWithUnbalancedDependenciesRoot.class.getPackage().getName() + ".(*)")
+                .should().beFreeOfCycles().evaluate(classes)
+                .handleViolations((Collection<Cycle<?, ?>> cycles, String message) -> reportedCycles.addAll(cycles));
+
+        assertThat(reportedCycles).isNotEmpty();
+        for (Cycle<?, ?> cycle : reportedCycles) {
+            for (Edge<?, ?> edge : cycle.getEdges()) {
+                assertThat(edge.getAttachments()).as("retained dependencies of " + edge.getFrom()).hasSizeBetween(1, 3);
+            }
+        }
+    }
+
     @Test
     public void limits_number_of_reported_dependencies_per_edge_by_default_to_20() {
         String failureReport = getFailureReportForCyclesInRootPackageOf(CycleWithUnbalancedDependenciesRoot.class);
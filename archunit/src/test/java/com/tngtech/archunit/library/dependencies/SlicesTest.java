@@ -107,6 +107,56 @@ public class SlicesTest {
                 .isEmpty();
     }
 
+    @Test
+    public void slices_matching_the_same_package_identifier_share_the_partitioning_of_the_same_classes() {
+        JavaClasses classes = importClassesWithContext(Object.class, String.class, List.class, Set.class, Pattern.class, File.class);
+
+        Slices slices = Slices.matching("java.(*)..").transform(classes);
+        Slices slicesOfOtherRule = Slices.matching("java.(*)..").namingSlices("Other $1").transform(classes);
+
+        assertThat(slices).extractingResultOf("getDescription").containsOnly("Slice lang", "Slice util", "Slice io");
+        assertThat(slicesOfOtherRule).extractingResultOf("getDescription").containsOnly("Other lang", "Other util", "Other io");
+        for (Slice slice : slices) {
+            Slice sliceOfOtherRule = getSliceOf(slice.iterator().next().reflect(), slicesOfOtherRule);
+            assertThat(sliceOfOtherRule).containsExactlyInAnyOrderElementsOf(slice);
+        }
+        assertThat(Slices.matching("java.(*)..").transform(classes).iterator().next())
+                .as("slice of equal transformer")
+                .isSameAs(slices.iterator().next());
+    }
+
+    @Test
+    public void slices_matching_package_identifier_are_partitioned_like_slices_assigned_from_the_same_identifier() {
+        JavaClasses classes = importClassesWithContext(Object.class, String.class, List.class, Set.class, Pattern.class, File.class);
+        SliceAssignment sequentialAssignment = new SliceAssignment() {
+            @Override
+            public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
+                String packageName = javaClass.getPackageName();
+                return packageName.startsWith("java.") && !packageName.equals("java.io")
+                        ? SliceIdentifier.of(packageName.split("\\.")[1])
+                        : SliceIdentifier.ignore();
+            }
+
+            @Override
+            public String getDescription() {
+                return "sequential";
+            }
+        };
+
+        Slices matching = Slices.matching("java.(*)..").that(new DescribedPredicate<Slice>("not io") {
+            @Override
+            public boolean test(Slice slice) {
+                return !slice.getNamePart(1).equals("io");
+            }
+        }).transform(classes);
+        Slices assigned = Slices.assignedFrom(sequentialAssignment).transform(classes);
+
+        assertThat(matching).hasSameSizeAs(assigned);
+        for (Slice slice : assigned) {
+            assertThat(getSliceOf(slice.iterator().next().reflect(), matching)).containsExactlyInAnyOrderElementsOf(slice);
+        }
+    }
+
     private Slice getSliceOf(Class<?> clazz, Slices slices) {
         return tryGetSliceOf(clazz, slices).get();
     }
@@ -0,0 +1,26 @@
+package com.tngtech.archunit.library.dependencies.testexamples.classcycles;
+
+@SuppressWarnings("unused")
+public class ClassWithNestedClasses {
+    private String field;
+
+    Runnable createInner() {
+        return new Inner();
+    }
+
+    Runnable createAnonymous() {
+        return new Runnable() {
+            @Override
+            public void run() {
+                field = "anonymous";
+            }
+        };
+    }
+
+    private class Inner implements Runnable {
+        @Override
+        public void run() {
+            field = "inner";
+        }
+    }
+}
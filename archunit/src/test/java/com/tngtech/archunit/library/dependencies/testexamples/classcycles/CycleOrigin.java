@@ -0,0 +1,6 @@
+package com.tngtech.archunit.library.dependencies.testexamples.classcycles;
+
+@SuppressWarnings("unused")
+public class CycleOrigin {
+    private CycleTarget target;
+}
@@ -1,5 +1,7 @@
 package com.tngtech.archunit.library.metrics;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableSet;
@@ -103,4 +105,40 @@ public class MetricsComponentDependencyGraphTest {
         assertThat(graph.getTransitiveDependenciesOf(d)).containsOnly(e, a, b, c, d);
         assertThat(graph.getTransitiveDependenciesOf(e)).containsOnly(e, a, b, c, d);
     }
+
+    @Test
+    public void counts_transitive_dependencies_without_origin() {
+        Map<String, MetricsComponent<TestElement>> testComponents = graph(
+                fromNode("A").toNodes("B", "C")
+                        .fromNode("B").toNodes("A")
+                        .fromNode("C").toNodes("D")
+        ).toComponentsByIdentifier();
+
+        MetricsComponentDependencyGraph<TestElement> graph = MetricsComponentDependencyGraph.of(testComponents.values(), GET_DEPENDENCIES);
+
+        assertThat(graph.getNumberOfTransitiveDependenciesOf(testComponents.get("A"))).isEqualTo(3);
+        assertThat(graph.getNumberOfTransitiveDependenciesOf(testComponents.get("B"))).isEqualTo(3);
+        assertThat(graph.getNumberOfTransitiveDependenciesOf(testComponents.get("C"))).isEqualTo(1);
+        assertThat(graph.getNumberOfTransitiveDependenciesOf(testComponents.get("D"))).isEqualTo(0);
+    }
+
+    @Test
+    public void finds_transitive_dependencies_in_deep_graph() {
+        int depth = 10_000;
+        List<MetricsComponent<TestElement>> components = new ArrayList<>();
+        TestElement previous = null;
+        for (int i = 0; i < depth; i++) {
+            TestElement element = new TestElement();
+            if (previous != null) {
+                previous.addDependency(element);
+            }
+            components.add(MetricsComponent.of("component" + i, element));
+            previous = element;
+        }
+
+        MetricsComponentDependencyGraph<TestElement> graph = MetricsComponentDependencyGraph.of(components, GET_DEPENDENCIES);
+
+        assertThat(graph.getNumberOfTransitiveDependenciesOf(components.get(0))).isEqualTo(depth - 1);
+        assertThat(graph.getTransitiveDependenciesOf(components.get(depth - 2))).containsOnly(components.get(depth - 1));
+    }
 }
@@ -6,6 +6,9 @@ import java.net.URL;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.library.diagramtests.confusingpackagenames.foopackage.barpackage.ClassInFooAndBarPackage;
+import com.tngtech.archunit.library.diagramtests.multipledependencies.intermediary.SomeIntermediary;
+import com.tngtech.archunit.library.diagramtests.multipledependencies.origin.SomeOrigin;
+import com.tngtech.archunit.library.diagramtests.multipledependencies.target.SomeTarget;
 import com.tngtech.archunit.library.diagramtests.simpledependency.origin.SomeOriginClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -57,6 +60,26 @@ public class JavaClassDiagramAssociationTest {
                 .containsOnly(expectedTarget1, expectedTarget2);
     }
 
+    @Test
+    public void allows_dependencies_within_component_and_to_targets_of_component() {
+        JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)
+                .component("Origin").withStereoTypes("..multipledependencies.origin")
+                .component("Intermediary").withStereoTypes("..multipledependencies.intermediary")
+                .component("Target").withStereoTypes("..multipledependencies.target")
+                .dependencyFrom("[Origin]").to("[Intermediary]")
+                .write());
+        JavaClass origin = importClassWithContext(SomeOrigin.class);
+        JavaClass intermediary = importClassWithContext(SomeIntermediary.class);
+        JavaClass target = importClassWithContext(SomeTarget.class);
+
+        assertThat(javaClassDiagramAssociation.isDependencyAllowed(origin, origin)).as("dependency within component is allowed").isTrue();
+        assertThat(javaClassDiagramAssociation.isDependencyAllowed(origin, intermediary)).as("dependency Origin -> Intermediary is allowed").isTrue();
+        assertThat(javaClassDiagramAssociation.isDependencyAllowed(origin, target)).as("dependency Origin -> Target is allowed").isFalse();
+        assertThat(javaClassDiagramAssociation.isDependencyAllowed(intermediary, origin)).as("dependency Intermediary -> Origin is allowed").isFalse();
+        assertThat(javaClassDiagramAssociation.isDependencyAllowed(origin, importClassWithContext(Object.class)))
+                .as("dependency to class outside of diagram is allowed").isFalse();
+    }
+
     @Test
     public void rejects_class_not_contained_in_any_component() {
         JavaClassDiagramAssociation javaClassDiagramAssociation = createAssociation(TestDiagram.in(temporaryFolder)